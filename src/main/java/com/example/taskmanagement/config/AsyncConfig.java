@@ -0,0 +1,27 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// Unqualified @Async methods and MVC async requests (streamed responses) run on Spring Boot's
+// applicationTaskExecutor, which starts a virtual thread per job when spring.threads.virtual.enabled is set.
+// Declaring another executor makes Boot skip that one unless spring.task.execution.mode=force.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Background project deletions: at most this many run at once, the rest wait in the queue
+    // without holding up the request that started them
+    @Bean
+    public ThreadPoolTaskExecutor projectDeletionExecutor(
+            @Value("${app.projects.delete-concurrency:4}") int deleteConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(deleteConcurrency);
+        executor.setMaxPoolSize(deleteConcurrency);
+        executor.setThreadNamePrefix("project-deletion-");
+        return executor;
+    }
+}
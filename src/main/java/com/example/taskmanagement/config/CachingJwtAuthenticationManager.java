@@ -0,0 +1,107 @@
+package com.example.taskmanagement.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Remembers bearer tokens that were already decoded, verified and converted, keyed by their SHA-256 hash.
+ * An entry lives until the token's {@code exp}, so an expired token always goes back to the delegate
+ * and is rejected there. Rejected tokens are never cached.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final Clock clock;
+    private final AsyncCache<String, JwtAuthenticationToken> verifiedTokens;
+
+    public CachingJwtAuthenticationManager(AuthenticationManager delegate, long maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, JwtAuthenticationToken>creating((key, token) -> timeToExpiry(token.getToken())))
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer))
+            return delegate.authenticate(authentication);
+
+        // Concurrent requests with the same new token verify it once. The first one verifies on its own thread,
+        // outside the cache's lock: verifying can fetch signing keys, and blocking inside the map's synchronized
+        // bin would pin a virtual thread to its carrier
+        CompletableFuture<JwtAuthenticationToken> verification = new CompletableFuture<>();
+        CompletableFuture<JwtAuthenticationToken> cached = verifiedTokens.get(hash(bearer.getToken()),
+                (key, executor) -> verification);
+        if (cached == verification) {
+            try {
+                verification.complete((JwtAuthenticationToken) delegate.authenticate(bearer));
+            } catch (Throwable e) {
+                // A failed verification is dropped from the cache. Errors too: a pending future never expires,
+                // so every later request with this token would wait on it forever
+                verification.completeExceptionally(e);
+                throw e;
+            }
+        }
+        JwtAuthenticationToken verified = await(cached);
+
+        // The cached token is shared, so every request gets its own copy carrying its own details
+        JwtAuthenticationToken result = new JwtAuthenticationToken(
+                verified.getToken(), verified.getAuthorities(), verified.getName());
+        result.setDetails(bearer.getDetails());
+        return result;
+    }
+
+    public CacheStats stats() {
+        return verifiedTokens.synchronous().stats();
+    }
+
+    private static JwtAuthenticationToken await(CompletableFuture<JwtAuthenticationToken> verification) {
+        try {
+            return verification.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    private Duration timeToExpiry(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null)
+            return Duration.ZERO;
+        Duration remaining = Duration.between(clock.instant(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -3,10 +3,20 @@ package com.example.taskmanagement.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClientBuilder;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClientBuilder;
+
+import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class CognitoConfig {
@@ -17,13 +27,66 @@ public class CognitoConfig {
     @Value("${aws.secret-access-key}")
     private String secretAccessKey;
 
+    // Points both clients at a local stub instead of AWS, e.g. http://localhost:9229
+    @Value("${aws.cognito.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.cognito.sync.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${aws.cognito.sync.connection-acquisition-timeout:10s}")
+    private Duration syncConnectionAcquisitionTimeout;
+
+    @Value("${aws.cognito.async.max-concurrency:50}")
+    private int maxConcurrency;
+
+    @Value("${aws.cognito.async.connection-acquisition-timeout:2s}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${aws.cognito.async.connection-timeout:2s}")
+    private Duration connectionTimeout;
+
+    @Value("${aws.cognito.async.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${aws.cognito.async.api-call-timeout:10s}")
+    private Duration apiCallTimeout;
+
+    // User listing, lookup and deletion; a request thread waits for a connection on a semaphore, not in the pool
     @Bean
     public CognitoIdentityProviderClient cognitoIdentityProviderClient() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
+        SdkHttpClient httpClient = ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionAcquisitionTimeout(syncConnectionAcquisitionTimeout)
+                .build();
 
-        return CognitoIdentityProviderClient.builder()
+        CognitoIdentityProviderClientBuilder builder = CognitoIdentityProviderClient.builder()
                 .region(Region.EU_NORTH_1)
                 .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-                .build();
+                .httpClient(new ConnectionLimitedHttpClient(httpClient, maxConnections, syncConnectionAcquisitionTimeout));
+        if (StringUtils.hasText(endpoint))
+            builder.endpointOverride(URI.create(endpoint));
+        return builder.build();
+    }
+
+    // Sign-in and password change; calls wait on a pooled Netty connection, not on a request thread
+    @Bean
+    public CognitoIdentityProviderAsyncClient cognitoIdentityProviderAsyncClient() {
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
+
+        CognitoIdentityProviderAsyncClientBuilder builder = CognitoIdentityProviderAsyncClient.builder()
+                .region(Region.EU_NORTH_1)
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                        .connectionTimeout(connectionTimeout)
+                        .readTimeout(readTimeout))
+                // Bounds the whole call including retries, so a login never hangs past it
+                .overrideConfiguration(override -> override.apiCallTimeout(apiCallTimeout));
+        if (StringUtils.hasText(endpoint))
+            builder.endpointOverride(URI.create(endpoint));
+        return builder.build();
     }
 }
@@ -0,0 +1,42 @@
+package com.example.taskmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Lets at most maxConcurrentRequests requests run at once; the rest park here in arrival order. Tomcat's
+ * thread pool sets this bound with platform threads. With a virtual thread per request there is none, and
+ * every admitted request competes for the same few carriers: a request holding a pooled connection waits
+ * behind all of them before it can finish and hand the connection back. A streamed response holds its
+ * permit until its handler returns, not until the last row is written.
+ */
+class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    ConcurrencyLimitFilter(int maxConcurrentRequests) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting to be admitted", e);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
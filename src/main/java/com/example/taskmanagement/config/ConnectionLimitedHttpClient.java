@@ -0,0 +1,114 @@
+package com.example.taskmanagement.config;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most as many calls into the delegate as its pool has connections. The Apache pool waits for a free
+ * connection inside a synchronized block, which pins a virtual request thread to its carrier; once every
+ * carrier is pinned, the threads that would give connections back cannot run. Waiting on the semaphore here
+ * parks the thread instead. A permit is held until the response body is closed, which is when the connection
+ * goes back to the pool.
+ */
+class ConnectionLimitedHttpClient implements SdkHttpClient {
+
+    private final SdkHttpClient delegate;
+    private final Semaphore connections;
+    private final Duration acquisitionTimeout;
+
+    ConnectionLimitedHttpClient(SdkHttpClient delegate, int maxConnections, Duration acquisitionTimeout) {
+        this.delegate = delegate;
+        this.connections = new Semaphore(maxConnections, true);
+        this.acquisitionTimeout = acquisitionTimeout;
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        ExecutableHttpRequest call = delegate.prepareRequest(request);
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                acquire();
+                Permit permit = new Permit();
+                try {
+                    return releasedOnClose(call.call(), permit);
+                } catch (IOException | RuntimeException e) {
+                    permit.release();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void abort() {
+                call.abort();
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return delegate.clientName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    // Fails like the pool itself would, as an IOException the SDK may retry
+    private void acquire() throws IOException {
+        try {
+            if (!connections.tryAcquire(acquisitionTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                throw new IOException("Timeout waiting for a Cognito connection");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a Cognito connection");
+        }
+    }
+
+    private static HttpExecuteResponse releasedOnClose(HttpExecuteResponse response, Permit permit) {
+        if (response.responseBody().isEmpty()) {
+            permit.release();
+            return response;
+        }
+
+        AbortableInputStream body = response.responseBody().get();
+        InputStream released = new FilterInputStream(body) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    permit.release();
+                }
+            }
+        };
+        return HttpExecuteResponse.builder()
+                .response(response.httpResponse())
+                .responseBody(AbortableInputStream.create(released, body))
+                .build();
+    }
+
+    // Closing a body twice must not hand out a second permit
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true))
+                connections.release();
+        }
+    }
+}
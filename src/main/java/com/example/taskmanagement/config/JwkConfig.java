@@ -0,0 +1,64 @@
+package com.example.taskmanagement.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+// Replaces the auto-configured decoder, which fetches the keys lazily on the first request
+@Configuration
+@ConditionalOnExpression("'${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}' != '' " +
+        "or '${app.security.jwks.file:}' != ''")
+public class JwkConfig {
+
+    @Bean
+    public PreloadedJwkSource jwkSource(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}") String jwkSetUri,
+            @Value("${app.security.jwks.file:#{null}}") Resource jwkSetFile,
+            @Value("${app.security.jwks.min-refetch-interval:30s}") Duration minRefetchInterval) {
+        Callable<String> remoteJwkSet = null;
+        if (StringUtils.hasText(jwkSetUri)) {
+            RestOperations restOperations = restTemplateBuilder
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .readTimeout(Duration.ofSeconds(5))
+                    .build();
+            remoteJwkSet = () -> restOperations.getForObject(jwkSetUri, String.class);
+        }
+
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, jwkSetFile, minRefetchInterval, Clock.systemUTC());
+        jwkSource.load();
+        return jwkSource;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(PreloadedJwkSource jwkSource,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are validated by the decoder's validators below, as in the auto-configured decoder
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        jwtDecoder.setJwtValidator(StringUtils.hasText(issuerUri)
+                ? JwtValidators.createDefaultWithIssuer(issuerUri)
+                : JwtValidators.createDefault());
+        return jwtDecoder;
+    }
+}
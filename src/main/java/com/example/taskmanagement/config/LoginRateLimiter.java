@@ -0,0 +1,121 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.exceptions.TooManyRequestsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Token buckets for sign-in attempts: one per login identifier, one per client IP and one for the whole
+ * instance, which keeps retry storms away from the Cognito quota. An attempt needs a token from all three;
+ * when a later bucket rejects it, the tokens already taken are given back.
+ * <p>
+ * Buckets live in fixed tables of slots picked by a seeded hash of the key, so memory does not grow with the
+ * number of distinct keys. Keys that land in the same slot share a bucket, which can only make them stricter.
+ * A bucket is one long, the time its next token is due (GCRA), updated with compare-and-set.
+ */
+public class LoginRateLimiter {
+
+    private final Clock clock;
+    private final BucketTable identities;
+    private final BucketTable clientIps;
+    private final BucketTable global;
+
+    public LoginRateLimiter(Limit identityLimit, Limit clientIpLimit, Limit globalLimit, int tableSize, Clock clock) {
+        this.clock = clock;
+        this.identities = new BucketTable(identityLimit, tableSize);
+        this.clientIps = new BucketTable(clientIpLimit, tableSize);
+        this.global = new BucketTable(globalLimit, 1);
+    }
+
+    /**
+     * Takes a token for this attempt or throws {@link TooManyRequestsException} with the time until one is free.
+     */
+    public void acquire(String loginIdentifier, String clientIp) {
+        long now = nanoTime();
+        String identity = loginIdentifier == null ? "" : loginIdentifier.trim().toLowerCase(Locale.ROOT);
+        String ip = clientIp == null ? "" : clientIp;
+
+        long wait = identities.tryAcquire(identity, now);
+        if (wait > 0)
+            throw rejected(wait);
+
+        wait = clientIps.tryAcquire(ip, now);
+        if (wait > 0) {
+            identities.release(identity);
+            throw rejected(wait);
+        }
+
+        wait = global.tryAcquire("", now);
+        if (wait > 0) {
+            identities.release(identity);
+            clientIps.release(ip);
+            throw rejected(wait);
+        }
+    }
+
+    private long nanoTime() {
+        Instant now = clock.instant();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        return new TooManyRequestsException("Too many sign-in attempts", Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * At most {@code capacity} attempts at once, refilled evenly over {@code refillPeriod}.
+     */
+    public record Limit(int capacity, Duration refillPeriod) {
+
+        public Limit {
+            if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero())
+                throw new IllegalArgumentException("A limit needs a positive capacity and refill period");
+        }
+    }
+
+    private static final class BucketTable {
+
+        private final AtomicLongArray nextTokenDue;
+        private final int mask;
+        private final int seed = ThreadLocalRandom.current().nextInt();
+        private final long interval;
+        private final long burstTolerance;
+
+        BucketTable(Limit limit, int size) {
+            // Rounded up to a power of two so a slot is picked with a mask
+            int slots = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+            this.nextTokenDue = new AtomicLongArray(slots);
+            this.mask = slots - 1;
+            this.interval = Math.max(1, limit.refillPeriod().toNanos() / limit.capacity());
+            this.burstTolerance = interval * (limit.capacity() - 1);
+        }
+
+        // Returns 0 when a token was taken, otherwise how long until the next one is due
+        long tryAcquire(String key, long now) {
+            int slot = slot(key);
+            while (true) {
+                long due = nextTokenDue.get(slot);
+                long start = Math.max(due, now);
+                long wait = start - burstTolerance - now;
+                if (wait > 0)
+                    return wait;
+                if (nextTokenDue.compareAndSet(slot, due, start + interval))
+                    return 0;
+            }
+        }
+
+        void release(String key) {
+            nextTokenDue.addAndGet(slot(key), -interval);
+        }
+
+        private int slot(String key) {
+            int hash = (key.hashCode() ^ seed) * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
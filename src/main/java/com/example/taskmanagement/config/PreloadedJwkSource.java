@@ -0,0 +1,113 @@
+package com.example.taskmanagement.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Signing keys held in memory instead of being fetched on the first request. Keys are loaded at startup
+ * from the JWK set URI, or from a local file when the URI is not configured or not reachable, and are
+ * refreshed in the background. A token with an unknown {@code kid} triggers a refetch, at most once per
+ * {@code minRefetchInterval}. A failed or empty fetch never replaces the last good set.
+ */
+@Slf4j
+public class PreloadedJwkSource implements JWKSource<SecurityContext> {
+
+    private final Callable<String> remoteJwkSet;
+    private final Resource localJwkSet;
+    private final Duration minRefetchInterval;
+    private final Clock clock;
+    private final ReentrantLock fetchLock = new ReentrantLock();
+
+    private volatile JWKSet jwkSet = new JWKSet();
+    private Instant lastFetchAttempt = Instant.MIN;
+
+    // Either source may be null, but not both
+    public PreloadedJwkSource(Callable<String> remoteJwkSet, Resource localJwkSet,
+                              Duration minRefetchInterval, Clock clock) {
+        if (remoteJwkSet == null && localJwkSet == null)
+            throw new IllegalArgumentException("A JWK set URI or a local JWK set file is required");
+        this.remoteJwkSet = remoteJwkSet;
+        this.localJwkSet = localJwkSet;
+        this.minRefetchInterval = minRefetchInterval;
+        this.clock = clock;
+    }
+
+    public void load() {
+        if (remoteJwkSet != null)
+            refresh();
+        if (jwkSet.isEmpty() && localJwkSet != null)
+            loadLocal();
+        if (jwkSet.isEmpty())
+            log.error("No signing keys could be loaded, every bearer token is rejected until a refresh succeeds");
+    }
+
+    @Scheduled(initialDelayString = "${app.security.jwks.refresh-interval:5m}",
+            fixedDelayString = "${app.security.jwks.refresh-interval:5m}")
+    public void refresh() {
+        if (remoteJwkSet == null)
+            return;
+
+        fetchLock.lock();
+        try {
+            fetch();
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        JWKSet current = jwkSet;
+        List<JWK> matches = jwkSelector.select(current);
+        if (!matches.isEmpty() || remoteJwkSet == null)
+            return matches;
+
+        // Unknown kid, the keys may have been rotated. Threads that waited for a refetch just re-select
+        fetchLock.lock();
+        try {
+            if (jwkSet == current && !clock.instant().isBefore(lastFetchAttempt.plus(minRefetchInterval)))
+                fetch();
+        } finally {
+            fetchLock.unlock();
+        }
+        return jwkSelector.select(jwkSet);
+    }
+
+    // Called with fetchLock held
+    private void fetch() {
+        lastFetchAttempt = clock.instant();
+        try {
+            JWKSet fetched = JWKSet.parse(remoteJwkSet.call());
+            if (fetched.isEmpty()) {
+                log.warn("Fetched JWK set has no keys, keeping the {} current keys", jwkSet.size());
+                return;
+            }
+            jwkSet = fetched;
+        } catch (Exception e) {
+            log.warn("Fetching the JWK set failed, keeping the {} current keys", jwkSet.size(), e);
+        }
+    }
+
+    private void loadLocal() {
+        try (InputStream in = localJwkSet.getInputStream()) {
+            jwkSet = JWKSet.load(in);
+            log.info("Loaded {} signing keys from {}", jwkSet.size(), localJwkSet.getDescription());
+        } catch (Exception e) {
+            log.error("Loading the JWK set from {} failed", localJwkSet.getDescription(), e);
+        }
+    }
+}
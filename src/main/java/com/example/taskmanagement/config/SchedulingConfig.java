@@ -0,0 +1,10 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled methods run on Spring Boot's taskScheduler (spring.task.scheduling.*)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
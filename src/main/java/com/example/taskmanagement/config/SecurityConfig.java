@@ -16,13 +16,17 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -45,12 +49,13 @@ public class SecurityConfig {
 
     @Bean
     @Order(2)
-    public SecurityFilterChain protectedFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain protectedFilterChain(HttpSecurity http,
+                                                    CachingJwtAuthenticationManager jwtAuthenticationManager) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authz -> authz.anyRequest().authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
-                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                                .authenticationManager(jwtAuthenticationManager)
                         )
                         .authenticationEntryPoint(customAuthenticationEntryPoint())
                         .accessDeniedHandler(customAccessDeniedHandler())
@@ -59,6 +64,33 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Verifies a token's signature once and reuses the result until the token expires
+    @Bean
+    public CachingJwtAuthenticationManager jwtAuthenticationManager(
+            JwtDecoder jwtDecoder,
+            @Value("${app.security.jwt-cache.maximum-size:10000}") long maximumSize) {
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(jwtAuthenticationConverter());
+        return new CachingJwtAuthenticationManager(provider::authenticate, maximumSize, Clock.systemUTC());
+    }
+
+    // Throttles sign-in attempts before they reach Cognito
+    @Bean
+    public LoginRateLimiter loginRateLimiter(
+            @Value("${app.auth.rate-limit.identity.capacity:5}") int identityCapacity,
+            @Value("${app.auth.rate-limit.identity.refill-period:1m}") Duration identityRefillPeriod,
+            @Value("${app.auth.rate-limit.client-ip.capacity:20}") int clientIpCapacity,
+            @Value("${app.auth.rate-limit.client-ip.refill-period:1m}") Duration clientIpRefillPeriod,
+            @Value("${app.auth.rate-limit.global.capacity:50}") int globalCapacity,
+            @Value("${app.auth.rate-limit.global.refill-period:1s}") Duration globalRefillPeriod,
+            @Value("${app.auth.rate-limit.table-size:65536}") int tableSize) {
+        return new LoginRateLimiter(
+                new LoginRateLimiter.Limit(identityCapacity, identityRefillPeriod),
+                new LoginRateLimiter.Limit(clientIpCapacity, clientIpRefillPeriod),
+                new LoginRateLimiter.Limit(globalCapacity, globalRefillPeriod),
+                tableSize, Clock.systemUTC());
+    }
+
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
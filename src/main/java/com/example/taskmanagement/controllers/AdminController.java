@@ -2,11 +2,17 @@ package com.example.taskmanagement.controllers;
 
 import com.example.taskmanagement.mappers.UserMapper;
 import com.example.taskmanagement.model.dto.UserDto;
+import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.services.AdminService;
+import com.example.taskmanagement.utils.JsonStreamUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
 
 import java.util.List;
@@ -19,16 +25,57 @@ public class AdminController {
 
     private final AdminService adminService;
     private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<UserDto>> listUsers() {
-        List<UserType> users = adminService.listUsers();
-        List<UserDto> userDtos = users.stream()
+    public ResponseEntity<StreamingResponseBody> listUsers() {
+        // The first page is read before the response is committed, so an unreachable Cognito is a 5xx;
+        // a failure on a later page can only cut the body short
+        ListUsersResponse firstPage = adminService.firstUserPage();
+
+        // Every page of the pool, written to the client page by page as Cognito returns them
+        StreamingResponseBody body = out -> JsonStreamUtils.<UserDto>writeArray(objectMapper, out,
+                writer -> adminService.streamUsers(firstPage, user -> writer.accept(userMapper.toDto(user))));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(params = {"after", "!emailPrefix"})
+    public ResponseEntity<PagedResponse<UserDto>> listUsersAfter(@RequestParam String after,
+                                                                 @RequestParam(defaultValue = "60") int size) {
+        // Cursor mode - an empty "after" starts from the first page
+        PagedResponse<UserType> users = adminService.listUsers(after, size);
+
+        List<UserDto> userDtos = users.getContent().stream()
+                .map(userMapper::toDto)
+                .toList();
+
+        PagedResponse<UserDto> response = PagedResponse.<UserDto>builder()
+                .content(userDtos)
+                .page(users.getPage())
+                .nextCursor(users.getNextCursor())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    // Answered from the in-memory user directory, Cognito is not called
+    @GetMapping(params = {"emailPrefix", "!after"})
+    public ResponseEntity<List<UserDto>> searchUsers(@RequestParam String emailPrefix,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        List<UserDto> userDtos = adminService.searchUsersByEmail(emailPrefix, limit).stream()
                 .map(userMapper::toDto)
                 .toList();
         return ResponseEntity.ok(userDtos);
     }
 
+    // Without this mapping the plain listing would take the request and stream the whole pool
+    @GetMapping(params = {"after", "emailPrefix"})
+    public ResponseEntity<Void> listUsersAfterWithEmailPrefix() {
+        throw new IllegalArgumentException("'after' and 'emailPrefix' cannot be used together");
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable String id) {
         UserType user = adminService.getUserById(id);
@@ -41,4 +88,4 @@ public class AdminController {
         adminService.deleteUserById(id);
         return ResponseEntity.ok("Deleted user with id : " + id + " successfully!");
     }
-} 
\ No newline at end of file
+} 
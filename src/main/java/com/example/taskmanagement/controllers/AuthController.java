@@ -1,33 +1,42 @@
 package com.example.taskmanagement.controllers;
 
 import com.example.taskmanagement.annotations.CurrentUser;
+import com.example.taskmanagement.config.LoginRateLimiter;
 import com.example.taskmanagement.model.dto.requests.SignInRequestDto;
 import com.example.taskmanagement.model.dto.response.SignInResponse;
 import com.example.taskmanagement.services.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
+    // Both endpoints return a future: the request thread is released while Cognito answers.
+    // Throttled attempts are rejected with 429 before any call to Cognito
     @PostMapping("/signin")
-    public ResponseEntity<SignInResponse> signin(@Valid @RequestBody SignInRequestDto signInRequestDto) {
-        String idToken = authService.signIn(signInRequestDto);
-        SignInResponse signInResponse = new SignInResponse(idToken);
-        return ResponseEntity.ok(signInResponse);
+    public CompletableFuture<ResponseEntity<SignInResponse>> signin(@Valid @RequestBody SignInRequestDto signInRequestDto,
+                                                                   HttpServletRequest request) {
+        loginRateLimiter.acquire(signInRequestDto.getLoginIdentifier(), request.getRemoteAddr());
+        return authService.signIn(signInRequestDto)
+                .thenApply(idToken -> ResponseEntity.ok(new SignInResponse(idToken)));
     }
 
     @PostMapping("/force-password-change")
-    public ResponseEntity<SignInResponse> forcePasswordChange(@Valid @RequestBody SignInRequestDto signInRequestDto){
-        String idToken = authService.forcePasswordChange(signInRequestDto);
-        SignInResponse signInResponse = new SignInResponse(idToken);
-        return ResponseEntity.ok(signInResponse);
+    public CompletableFuture<ResponseEntity<SignInResponse>> forcePasswordChange(@Valid @RequestBody SignInRequestDto signInRequestDto,
+                                                                                HttpServletRequest request){
+        loginRateLimiter.acquire(signInRequestDto.getLoginIdentifier(), request.getRemoteAddr());
+        return authService.forcePasswordChange(signInRequestDto)
+                .thenApply(idToken -> ResponseEntity.ok(new SignInResponse(idToken)));
     }
 
 
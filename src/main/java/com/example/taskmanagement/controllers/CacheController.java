@@ -0,0 +1,26 @@
+package com.example.taskmanagement.controllers;
+
+import com.example.taskmanagement.model.dto.response.CacheStatsDto;
+import com.example.taskmanagement.services.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('admins')")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStats());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.taskmanagement.controllers;
+
+import com.example.taskmanagement.annotations.CurrentUser;
+import com.example.taskmanagement.services.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+public class ExportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportWorkspace(@CurrentUser String ownerId,
+                                                                 @RequestParam(defaultValue = "false") boolean gzip) {
+
+        // Lines go straight to the response (through the compressor when gzip=true) as they are read
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                exportService.exportWorkspace(ownerId, out);
+                return;
+            }
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            exportService.exportWorkspace(ownerId, gzipOut);
+            gzipOut.finish();
+        };
+
+        String filename = gzip ? "workspace-export.ndjson.gz" : "workspace-export.ndjson";
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).toString())
+                .body(body);
+    }
+}
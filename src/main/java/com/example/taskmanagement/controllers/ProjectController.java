@@ -8,23 +8,32 @@ import com.example.taskmanagement.model.dto.requests.ProjectRequestDto;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.dto.response.ProjectResponseDto;
 import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.projection.ProjectSummary;
 
 
 import com.example.taskmanagement.services.ProjectService;
+import com.example.taskmanagement.utils.ETagUtils;
+import com.example.taskmanagement.utils.JsonStreamUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,27 +41,45 @@ import java.util.List;
 public class ProjectController {
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
 
-    @GetMapping("/all")
-    public ResponseEntity<List<ProjectResponseDto>> listProjects(@CurrentUser String ownerId) {
-
-        List<ProjectResponseDto> projects = projectService.listProjects(ownerId)
-                .stream()
-                .map(projectMapper::toDto)
-                .toList();
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
-        return ResponseEntity.ok(projects);
+    @GetMapping("/all")
+    public ResponseEntity<StreamingResponseBody> listProjects(@CurrentUser String ownerId, WebRequest request) {
+        String eTag = projectService.getWorkspaceETag(ownerId);
+        if (request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
+
+        StreamingResponseBody body = out -> JsonStreamUtils.<ProjectResponseDto>writeArray(objectMapper, out,
+                writer -> projectService.streamProjects(ownerId, project -> writer.accept(projectMapper.toDto(project))));
+
+        return ResponseEntity.ok()
+                .cacheControl(ETagUtils.REVALIDATE)
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping
     public ResponseEntity<PagedResponse<ProjectResponseDto>> listProjectsPaginated(
             @CurrentUser String ownerId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size){
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request){
+
+        // The validator is an owner-wide COUNT and MAX, which is what count=false is there to avoid
+        String eTag = count ? projectService.getWorkspaceETag(ownerId) : null;
+        if (eTag != null && request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
 
         // Create Pageable
         Pageable pageable = PageRequest.of(page, size);
-        PagedResponse<Project> projects = projectService.listProjects(ownerId, pageable);
+        // count=false skips the COUNT query and leaves the totals out of the page metadata
+        PagedResponse<ProjectSummary> projects = count
+                ? projectService.listProjects(ownerId, pageable)
+                : projectService.listProjectsSlice(ownerId, pageable);
         // Map to DTOs
         List<ProjectResponseDto> projectDtos = projects.getContent().stream()
                 .map(projectMapper::toDto)
@@ -63,15 +90,25 @@ public class ProjectController {
                 .page(projects.getPage())
                 .build();
         
-        return ResponseEntity.ok(response);
+        return ETagUtils.ok(eTag).body(response);
     }
 
     @GetMapping("/{projectId}")
     ResponseEntity<ProjectResponseDto> getProjectById(@CurrentUser String ownerId,
-                                                      @PathVariable String projectId) {
-        Project foundProject = projectService.getProjectById(ownerId, projectId);
+                                                      @PathVariable String projectId,
+                                                      WebRequest request) {
+        // The summary is a projection read in one query; a 304 skips only the mapping.
+        // The open task count is part of the body, so it is part of the ETag.
+        ProjectSummary foundProject = projectService.getProjectSummary(ownerId, projectId);
+        String eTag = ETagUtils.of(foundProject.version(), foundProject.taskCount());
+        if (request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
+
         ProjectResponseDto projectResponse = projectMapper.toDto(foundProject);
-        return ResponseEntity.ok(projectResponse);
+        return ResponseEntity.ok()
+                .cacheControl(ETagUtils.REVALIDATE)
+                .eTag(eTag)
+                .body(projectResponse);
     }
 
     @PostMapping
@@ -80,23 +117,51 @@ public class ProjectController {
         Project project = projectMapper.toEntity(projectRequest);
         Project newProject = projectService.createProject(ownerId, project);
         ProjectResponseDto projectResponse = projectMapper.toDto(newProject);
-        return ResponseEntity.status(HttpStatus.CREATED).body(projectResponse);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETagUtils.of(newProject.getVersion(), projectResponse.taskCount()))
+                .body(projectResponse);
     }
 
     @DeleteMapping("/{projectId}")
     ResponseEntity<String> deleteProject(@CurrentUser String ownerId,
-                                         @PathVariable String projectId) {
+                                         @PathVariable String projectId,
+                                         @RequestParam(defaultValue = "false") boolean async) {
+        // async=true is meant for very large projects: the tasks are deleted in chunks after the response
+        if (async) {
+            projectService.deleteProjectInBackground(ownerId, projectId);
+            return ResponseEntity.accepted().body("Project deletion started.");
+        }
+
         projectService.deleteProject(ownerId, projectId);
         return ResponseEntity.ok("Project deleted successfully.");
     }
 
     @PutMapping("/{projectId}")
     ResponseEntity<ProjectResponseDto> updateProject(@CurrentUser String ownerId,
-                                                     @PathVariable String projectId, @Valid @RequestBody ProjectRequestDto projectRequest) {
+                                                     @PathVariable String projectId,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                     @Valid @RequestBody ProjectRequestDto projectRequest) {
         Project project = projectMapper.toEntity(projectRequest);
-        Project updatedProject = projectService.updateProject(ownerId, projectId, project);
+        projectService.updateProject(ownerId, projectId, project, ETagUtils.parseIfMatch(ifMatch));
+        // Re-read as a summary so the open task count comes from SQL, not the task collection
+        ProjectSummary updatedProject = projectService.getProjectSummary(ownerId, projectId);
         ProjectResponseDto projectResponse = projectMapper.toDto(updatedProject);
-        return ResponseEntity.ok(projectResponse);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(updatedProject.version(), updatedProject.taskCount()))
+                .body(projectResponse);
+    }
+
+    @PatchMapping(path = "/{projectId}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<Void> patchProject(@CurrentUser String ownerId,
+                                      @PathVariable String projectId,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                      @RequestBody Map<String, Object> patch) {
+        long version = projectService.patchProject(ownerId, projectId, ETagUtils.requireIfMatch(ifMatch), patch);
+        // Same representation ETag as GET; the leading version is the one this PATCH wrote
+        ProjectSummary patchedProject = projectService.getProjectSummary(ownerId, projectId);
+        return ResponseEntity.noContent()
+                .eTag(ETagUtils.of(version, patchedProject.taskCount()))
+                .build();
     }
 
 
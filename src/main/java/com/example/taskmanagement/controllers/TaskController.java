@@ -3,25 +3,40 @@ package com.example.taskmanagement.controllers;
 
 import com.example.taskmanagement.annotations.CurrentUser;
 import com.example.taskmanagement.mappers.TaskMapper;
+import com.example.taskmanagement.model.dto.requests.TaskBulkUpdateRequestDto;
 import com.example.taskmanagement.model.dto.requests.TaskRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
+import com.example.taskmanagement.model.dto.response.BatchTaskResponseDto;
+import com.example.taskmanagement.model.dto.response.BatchTaskResultDto;
+import com.example.taskmanagement.model.dto.response.BulkUpdateResponseDto;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.dto.response.TaskResponseDto;
 import com.example.taskmanagement.model.entity.Project;
 import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.projection.TaskRevision;
 import com.example.taskmanagement.services.ProjectService;
 import com.example.taskmanagement.services.TaskService;
+import com.example.taskmanagement.utils.DateUtils;
+import com.example.taskmanagement.utils.ETagUtils;
+import com.example.taskmanagement.utils.JsonStreamUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,27 +46,46 @@ public class TaskController {
     private final TaskService taskService;
     private final ProjectService projectService;
     private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
     @GetMapping("/all")
-    public ResponseEntity<List<TaskResponseDto>> listTasks(@CurrentUser String ownerId) {
+    public ResponseEntity<StreamingResponseBody> listTasks(@CurrentUser String ownerId, WebRequest request) {
+        // Unchanged data answers 304 before any task is read
+        String eTag = projectService.getWorkspaceETag(ownerId);
+        if (request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
 
-        List<Task> tasks = taskService.listTasks(ownerId);
-        List<TaskResponseDto> taskResults = tasks.stream()
-                .map(taskMapper::toDto)
-                .toList();
+        // Rows are mapped and written one at a time while the query cursor is open
+        StreamingResponseBody body = out -> JsonStreamUtils.<TaskResponseDto>writeArray(objectMapper, out,
+                writer -> taskService.streamTasks(ownerId, task -> writer.accept(taskMapper.toDto(task))));
 
-        return ResponseEntity.ok(taskResults);
+        return ResponseEntity.ok()
+                .cacheControl(ETagUtils.REVALIDATE)
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping
     public ResponseEntity<PagedResponse<TaskResponseDto>> listTasksPaginated(
             @CurrentUser String ownerId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request) {
 
+        // The validator is an owner-wide COUNT and MAX, which is what count=false is there to avoid
+        String eTag = count ? projectService.getWorkspaceETag(ownerId) : null;
+        if (eTag != null && request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
 
         Pageable pageable = PageRequest.of(page, size);
-        PagedResponse<Task> tasks = taskService.listTasks(ownerId, pageable);
+        // count=false skips the COUNT query and leaves the totals out of the page metadata
+        PagedResponse<Task> tasks = count
+                ? taskService.listTasks(ownerId, pageable)
+                : taskService.listTasksSlice(ownerId, pageable);
         
 
         List<TaskResponseDto> taskDtos = tasks.getContent().stream()
@@ -63,25 +97,29 @@ public class TaskController {
                 .page(tasks.getPage())
                 .build();
         
-        return ResponseEntity.ok(response);
+        return ETagUtils.ok(eTag).body(response);
     }
 
     @GetMapping(path = "/all",params = "projectId")
-    public ResponseEntity<List<TaskResponseDto>> listTasksByProject(@CurrentUser String ownerId,
-                                                                    @RequestParam String projectId) {
-        
-        // 1. validate there is project with this id
+    public ResponseEntity<StreamingResponseBody> listTasksByProject(@CurrentUser String ownerId,
+                                                                    @RequestParam String projectId,
+                                                                    WebRequest request) {
+        String eTag = projectService.getWorkspaceETag(ownerId);
+        if (request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
+
+        // 1. validate there is project with this id - before streaming starts, so a 404 can still be sent
         Project project = projectService.getProjectById(ownerId, projectId);
 
-        // 2. sending to service, and he fetches all the Tasks of this project
-        List<Task> tasks = taskService.listTasksByProject(project);
-        
-        // 3. mapping loop in order to map it to TaskResponseDto
-        List<TaskResponseDto> taskResponses = tasks.stream()
-                .map(taskMapper::toDto)
-                .toList();
+        // 2. stream the tasks of this project straight into the response as TaskResponseDto
+        StreamingResponseBody body = out -> JsonStreamUtils.<TaskResponseDto>writeArray(objectMapper, out,
+                writer -> taskService.streamTasksByProject(project, task -> writer.accept(taskMapper.toDto(task))));
         
-        return ResponseEntity.ok(taskResponses);
+        return ResponseEntity.ok()
+                .cacheControl(ETagUtils.REVALIDATE)
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping(params = "projectId")
@@ -89,13 +127,20 @@ public class TaskController {
             @CurrentUser String ownerId,
             @RequestParam String projectId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size){
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request){
+
+        String eTag = count ? projectService.getWorkspaceETag(ownerId) : null;
+        if (eTag != null && request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
 
-        
         // Create Pageable
         Pageable pageable = PageRequest.of(page, size);
         
-        PagedResponse<Task> tasks = taskService.listTasksByProject(ownerId, projectId, pageable);
+        PagedResponse<Task> tasks = count
+                ? taskService.listTasksByProject(ownerId, projectId, pageable)
+                : taskService.listTasksByProjectSlice(ownerId, projectId, pageable);
         
         // Map to DTOs
         List<TaskResponseDto> taskDtos = tasks.getContent().stream()
@@ -107,17 +152,100 @@ public class TaskController {
                 .page(tasks.getPage())
                 .build();
         
+        return ETagUtils.ok(eTag).body(response);
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<PagedResponse<TaskResponseDto>> listTasksAfter(
+            @CurrentUser String ownerId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // Cursor mode - an empty "after" starts from the first page. No list ETag here: its owner-wide
+        // COUNT and MAX would cost more than the keyset page itself
+        PagedResponse<Task> tasks = taskService.listTasks(ownerId, after, size);
+
+        List<TaskResponseDto> taskDtos = tasks.getContent().stream()
+                .map(taskMapper::toDto)
+                .toList();
+
+        PagedResponse<TaskResponseDto> response = PagedResponse.<TaskResponseDto>builder()
+                .content(taskDtos)
+                .page(tasks.getPage())
+                .nextCursor(tasks.getNextCursor())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"projectId", "after"})
+    public ResponseEntity<PagedResponse<TaskResponseDto>> listTasksByProjectAfter(
+            @CurrentUser String ownerId,
+            @RequestParam String projectId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        PagedResponse<Task> tasks = taskService.listTasksByProject(ownerId, projectId, after, size);
+
+        List<TaskResponseDto> taskDtos = tasks.getContent().stream()
+                .map(taskMapper::toDto)
+                .toList();
+
+        PagedResponse<TaskResponseDto> response = PagedResponse.<TaskResponseDto>builder()
+                .content(taskDtos)
+                .page(tasks.getPage())
+                .nextCursor(tasks.getNextCursor())
+                .build();
+
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<PagedResponse<TaskResponseDto>> searchTasks(
+            @CurrentUser String ownerId,
+            TaskSearchRequestDto criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request) {
+
+        String eTag = count ? projectService.getWorkspaceETag(ownerId) : null;
+        if (eTag != null && request.checkNotModified(eTag))
+            return ETagUtils.notModified(eTag);
+
+        Pageable pageable = PageRequest.of(page, size);
+        PagedResponse<Task> tasks = taskService.searchTasks(ownerId, criteria, pageable, count);
+
+        List<TaskResponseDto> taskDtos = tasks.getContent().stream()
+                .map(taskMapper::toDto)
+                .toList();
+
+        PagedResponse<TaskResponseDto> response = PagedResponse.<TaskResponseDto>builder()
+                .content(taskDtos)
+                .page(tasks.getPage())
+                .build();
+
+        return ETagUtils.ok(eTag).body(response);
+    }
+
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskResponseDto> getTaskById(@CurrentUser String ownerId,
-                                                       @PathVariable String taskId) {
-        // 1. get the task byId - if not the service will throw task not found
+                                                       @PathVariable String taskId,
+                                                       WebRequest request) {
+        // 1. compare the client's validators with the stored versions - a 304 never loads the task
+        TaskRevision revision = taskService.getTaskRevision(ownerId, taskId);
+        String eTag = ETagUtils.of(revision.version(), revision.projectVersion());
+        if (request.checkNotModified(eTag, DateUtils.toEpochMilli(revision.lastModified())))
+            return ETagUtils.notModified(eTag);
+
+        // 2. get the task byId - if not the service will throw task not found
        Task task = taskService.getTaskById(ownerId, taskId);
-       // 2. map it to TaskDto
+       // 3. map it to TaskDto
        TaskResponseDto taskResponse = taskMapper.toDto(task);
-        return ResponseEntity.ok(taskResponse);
+        return ResponseEntity.ok()
+                .cacheControl(ETagUtils.REVALIDATE)
+                .eTag(ETagUtils.of(task.getVersion(), task.getProject().getVersion()))
+                .body(taskResponse);
     }
 
 
@@ -130,18 +258,66 @@ public class TaskController {
         Task createdTask = taskService.createTask(ownerId, projectId, task);
         TaskResponseDto response = taskMapper.toDto(createdTask);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETagUtils.of(createdTask.getVersion(), createdTask.getProject().getVersion()))
+                .body(response);
+    }
+
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTaskResponseDto> createTasks(@CurrentUser String ownerId,
+                                                            @RequestBody List<TaskRequestDto> taskRequests) {
+        // Items are validated one by one in the service, so one bad item does not reject the batch
+        List<TaskService.BatchItemResult> results = taskService.createTasks(ownerId, taskRequests);
+
+        List<BatchTaskResultDto> resultDtos = results.stream()
+                .map(result -> result.isCreated()
+                        ? BatchTaskResultDto.created(result.index(), taskMapper.toDto(result.task()))
+                        : BatchTaskResultDto.failed(result.index(), result.errorCode().name(), result.message()))
+                .toList();
+        int created = (int) resultDtos.stream().filter(BatchTaskResultDto::created).count();
+        BatchTaskResponseDto response = new BatchTaskResponseDto(created, resultDtos.size() - created, resultDtos);
+
+        // 201 when every item was created, 207 when the caller has to look at the per-item results
+        HttpStatus status = created == resultDtos.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkUpdateResponseDto> bulkUpdateTasks(@CurrentUser String ownerId,
+                                                                 @Valid @RequestBody TaskBulkUpdateRequestDto bulkUpdate) {
+        int updated = taskService.bulkUpdateTasks(ownerId, bulkUpdate);
+        return ResponseEntity.ok(new BulkUpdateResponseDto(updated));
     }
 
 
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponseDto> updateTask(@CurrentUser String ownerId,
                                                 @PathVariable String taskId,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                               @Valid @RequestBody TaskRequestDto taskRequest) {
         Task taskToUpdate = taskMapper.toEntity(taskRequest);
-        Task updatedTask = taskService.updateTask(ownerId, taskId, taskToUpdate);
+        // If-Match is optional on PUT - without it the last write wins as before
+        Task updatedTask = taskService.updateTask(ownerId, taskId, taskToUpdate, ETagUtils.parseIfMatch(ifMatch));
         TaskResponseDto taskResponse = taskMapper.toDto(updatedTask);
-        return ResponseEntity.ok(taskResponse);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(updatedTask.getVersion(), updatedTask.getProject().getVersion()))
+                .body(taskResponse);
+    }
+
+    @PatchMapping(path = "/{taskId}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchTask(@CurrentUser String ownerId,
+                                          @PathVariable String taskId,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @RequestBody Map<String, Object> patch) {
+        // Conditional single-statement update, nothing is read first on the happy path
+        long version = taskService.patchTask(ownerId, taskId, ETagUtils.requireIfMatch(ifMatch), patch);
+        // Same representation ETag as GET; the leading version is the one this PATCH wrote
+        TaskRevision revision = taskService.getTaskRevision(ownerId, taskId);
+        return ResponseEntity.noContent()
+                .eTag(ETagUtils.of(version, revision.projectVersion()))
+                .build();
     }
 
     @DeleteMapping("/{taskId}")
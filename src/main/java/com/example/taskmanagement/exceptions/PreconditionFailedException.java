@@ -0,0 +1,12 @@
+package com.example.taskmanagement.exceptions;
+
+import com.example.taskmanagement.model.enums.ErrorCode;
+
+public class PreconditionFailedException extends ApiBaseException {
+    public PreconditionFailedException() {
+        super(ErrorCode.PRECONDITION_FAILED.getDescription(), ErrorCode.PRECONDITION_FAILED);
+    }
+    public PreconditionFailedException(String message) {
+        super(message, ErrorCode.PRECONDITION_FAILED);
+    }
+}
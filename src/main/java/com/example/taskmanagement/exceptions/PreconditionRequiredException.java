@@ -0,0 +1,12 @@
+package com.example.taskmanagement.exceptions;
+
+import com.example.taskmanagement.model.enums.ErrorCode;
+
+public class PreconditionRequiredException extends ApiBaseException {
+    public PreconditionRequiredException() {
+        super(ErrorCode.PRECONDITION_REQUIRED.getDescription(), ErrorCode.PRECONDITION_REQUIRED);
+    }
+    public PreconditionRequiredException(String message) {
+        super(message, ErrorCode.PRECONDITION_REQUIRED);
+    }
+}
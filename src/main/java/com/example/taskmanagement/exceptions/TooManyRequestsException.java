@@ -0,0 +1,16 @@
+package com.example.taskmanagement.exceptions;
+
+import com.example.taskmanagement.model.enums.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends ApiBaseException {
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message, ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+}
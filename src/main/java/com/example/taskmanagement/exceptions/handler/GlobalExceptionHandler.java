@@ -3,9 +3,12 @@ package com.example.taskmanagement.exceptions.handler;
 
 import com.example.taskmanagement.exceptions.ApiBaseException;
 import com.example.taskmanagement.exceptions.AuthenticationException;
+import com.example.taskmanagement.exceptions.TooManyRequestsException;
 import com.example.taskmanagement.model.dto.ErrorDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,13 +19,19 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIdentityProviderException;
 
+import io.netty.channel.ConnectTimeoutException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 
+import java.net.SocketTimeoutException;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -166,6 +175,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getErrorCode().getHttpStatus()).body(response);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorDto> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+
+        // Debug only: a retry storm would otherwise flood the log
+        log.debug("Rate limited request: {} {}. Retry after: {}",
+                request.getMethod(), request.getRequestURI(), ex.getRetryAfter());
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        ErrorDto response = new ErrorDto(
+                ex.getMessage(),
+                ex.getErrorCode().name(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+
     @ExceptionHandler(ApiBaseException.class)
     public ResponseEntity<ErrorDto> handleApiBaseException(
             ApiBaseException ex, HttpServletRequest request) {
@@ -209,6 +237,39 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    // The SDK reports read, connect and connection pool timeouts of its HTTP client as a plain SdkClientException
+    @ExceptionHandler(SdkClientException.class)
+    public ResponseEntity<ErrorDto> handleExternalServiceTimeout(
+            SdkClientException ex, HttpServletRequest request) {
+
+        if (!isTimeout(ex))
+            return handleOtherExceptions(ex, request);
+
+        log.error("External service timeout for request: {} {}. Error: {}",
+                request.getMethod(), request.getRequestURI(), ex.getMessage());
+
+        ErrorDto response = new ErrorDto(
+                "External service did not answer in time",
+                "EXTERNAL_SERVICE_TIMEOUT",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
+    private static boolean isTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiCallTimeoutException || cause instanceof ApiCallAttemptTimeoutException
+                    // Netty read/write timeouts, Netty connect timeouts, waiting for a pooled connection
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof TimeoutException
+                    // Read and connect timeouts of the blocking client
+                    || cause instanceof SocketTimeoutException)
+                return true;
+        }
+        return false;
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorDto> handleIllegalArgumentException(
             IllegalArgumentException ex, HttpServletRequest request) {
@@ -240,6 +301,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDto> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        // A concurrent write bumped the version between our read and our update
+        log.warn("Concurrent modification for request: {} {}. Error: {}",
+                request.getMethod(), request.getRequestURI(), ex.getMessage());
+
+        ErrorDto response = new ErrorDto(
+                "Resource was modified concurrently, reload it and retry",
+                "RESOURCE_CONFLICT",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<String> handleAccessDenied(AccessDeniedException ex) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -23,6 +23,7 @@ public interface TaskMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "project", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Task toEntity(TaskRequestDto taskRequestDto);
@@ -0,0 +1,31 @@
+package com.example.taskmanagement.model.dto.requests;
+
+import com.example.taskmanagement.model.enums.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Body of PATCH /api/tasks/bulk. The selectors (taskIds, projectId, status) are combined with AND;
+ * at least one selector and at least one target is required.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateRequestDto {
+
+    // Selection
+    @Size(max = 1000, message = "At most 1000 task ids per request")
+    private List<String> taskIds;
+    private String projectId;
+    private TaskStatus status;
+
+    // Changes
+    private TaskStatus targetStatus;
+    private String targetProjectId;
+}
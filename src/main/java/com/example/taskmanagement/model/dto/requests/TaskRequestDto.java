@@ -3,6 +3,7 @@ package com.example.taskmanagement.model.dto.requests;
 import com.example.taskmanagement.model.enums.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,8 +17,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public class TaskRequestDto {
 
+    // Sizes match the VARCHAR(255) columns, so a bad row fails validation instead of the whole insert batch
     @NotBlank(message = "Task name is required")
+    @Size(max = 255, message = "Task name must be at most 255 characters")
     private String name;
+    @Size(max = 255, message = "Task description must be at most 255 characters")
     private String description;
 
     @NotBlank(message = "Project ID is required")
@@ -0,0 +1,38 @@
+package com.example.taskmanagement.model.dto.requests;
+
+import com.example.taskmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Query parameters of GET /api/tasks/search - every filter is optional
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequestDto {
+
+    // Full-text query over name and description; results are ranked by relevance unless sort is set
+    private String q;
+    private List<TaskStatus> status;
+    private String projectId;
+    private String namePrefix;
+
+    // Ranges are [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    // "property" or "property,asc|desc" - property must be one of createdAt, updatedAt, name, status
+    private String sort;
+}
@@ -0,0 +1,10 @@
+package com.example.taskmanagement.model.dto.response;
+
+import java.util.List;
+
+public record BatchTaskResponseDto(
+        int created,
+        int failed,
+        List<BatchTaskResultDto> results
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanagement.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Result of one item of POST /api/tasks/batch; index is the item's position in the request array
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchTaskResultDto(
+        int index,
+        boolean created,
+        TaskResponseDto task,
+        String errorCode,
+        String message
+) {
+    public static BatchTaskResultDto created(int index, TaskResponseDto task) {
+        return new BatchTaskResultDto(index, true, task, null, null);
+    }
+
+    public static BatchTaskResultDto failed(int index, String errorCode, String message) {
+        return new BatchTaskResultDto(index, false, null, errorCode, message);
+    }
+}
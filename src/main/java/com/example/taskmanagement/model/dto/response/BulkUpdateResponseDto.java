@@ -0,0 +1,6 @@
+package com.example.taskmanagement.model.dto.response;
+
+public record BulkUpdateResponseDto(
+        int updated
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanagement.model.dto.response;
+
+public record CacheStatsDto(
+        String name,
+        long hits,
+        long misses,
+        long puts,
+        double hitRatio
+) {
+
+    public static CacheStatsDto of(String name, long hits, long misses, long puts) {
+        long lookups = hits + misses;
+        return new CacheStatsDto(name, hits, misses, puts, lookups == 0 ? 0 : (double) hits / lookups);
+    }
+}
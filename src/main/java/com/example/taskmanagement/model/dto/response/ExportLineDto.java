@@ -0,0 +1,15 @@
+package com.example.taskmanagement.model.dto.response;
+
+// One line of the NDJSON workspace export: type is "project" or "task", data the matching response DTO
+public record ExportLineDto(
+        String type,
+        Object data
+) {
+    public static ExportLineDto project(ProjectResponseDto project) {
+        return new ExportLineDto("project", project);
+    }
+
+    public static ExportLineDto task(TaskResponseDto task) {
+        return new ExportLineDto("task", task);
+    }
+}
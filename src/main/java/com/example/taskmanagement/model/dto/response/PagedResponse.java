@@ -1,9 +1,11 @@
 package com.example.taskmanagement.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -14,16 +16,22 @@ import java.util.List;
 public class PagedResponse<T> {
     private List<T> content;
     private PageMetadata page;
+
+    // Opaque keyset cursor for the next page, only set in cursor mode
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
     
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PageMetadata {
-        private int number;
+        // Total counts are left null for slices and cursor pages, number also for cursor pages
+        private Integer number;
         private int size;
-        private long totalElements;
-        private int totalPages;
+        private Long totalElements;
+        private Integer totalPages;
         private boolean first;
         private boolean last;
         private boolean hasNext;
@@ -48,4 +56,37 @@ public class PagedResponse<T> {
                 .page(metadata)
                 .build();
     }
+
+    // Count-free variant: a Slice knows whether a next page exists but not the totals
+    public static <T> PagedResponse<T> of(Slice<T> slice) {
+        PageMetadata metadata = PageMetadata.builder()
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+
+        return PagedResponse.<T>builder()
+                .content(slice.getContent())
+                .page(metadata)
+                .build();
+    }
+
+    public static <T> PagedResponse<T> ofKeyset(List<T> content, int size, boolean first, String nextCursor) {
+        PageMetadata metadata = PageMetadata.builder()
+                .size(size)
+                .first(first)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .build();
+
+        return PagedResponse.<T>builder()
+                .content(content)
+                .page(metadata)
+                .nextCursor(nextCursor)
+                .build();
+    }
 } 
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.example.taskmanagement.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -33,6 +37,11 @@ public class Project {
     @OneToMany(mappedBy = "project", fetch = FetchType.LAZY,cascade = CascadeType.ALL)
     private List<Task> tasks = new ArrayList<>();
 
+    // Incremented on every update; sent to clients as the ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at",nullable = false)
     private LocalDateTime createdAt;
 
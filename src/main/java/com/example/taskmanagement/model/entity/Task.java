@@ -35,6 +35,15 @@ public class Task {
     @JoinColumn(name = "project_id",nullable = false)
     private Project project;
 
+    // Copy of project.ownerId so ownership checks and owner wide lists stay on the tasks table
+    @Column(name = "owner_cognito_id", nullable = false)
+    private String ownerId;
+
+    // Incremented on every update; sent to clients as the ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at",nullable = false)
     private LocalDateTime createdAt;
 
@@ -56,11 +65,11 @@ public class Task {
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Task task = (Task) o;
-        return Objects.equals(id, task.id) && Objects.equals(name, task.name) && Objects.equals(description, task.description) && status == task.status && Objects.equals(project, task.project) && Objects.equals(createdAt, task.createdAt) && Objects.equals(updatedAt, task.updatedAt);
+        return Objects.equals(id, task.id) && Objects.equals(name, task.name) && Objects.equals(description, task.description) && status == task.status && Objects.equals(project, task.project) && Objects.equals(ownerId, task.ownerId) && Objects.equals(createdAt, task.createdAt) && Objects.equals(updatedAt, task.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, description, status, project, createdAt, updatedAt);
+        return Objects.hash(id, name, description, status, project, ownerId, createdAt, updatedAt);
     }
 }
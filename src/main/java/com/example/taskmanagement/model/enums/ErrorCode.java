@@ -39,9 +39,15 @@ public enum ErrorCode {
     TASK_ALREADY_EXISTS("Task already exists", HttpStatus.CONFLICT),
     PROJECT_HAS_TASKS("Cannot delete project with existing tasks", HttpStatus.CONFLICT),
     
+    // 412 - Precondition Failed
+    PRECONDITION_FAILED("Resource was modified, the If-Match ETag is stale", HttpStatus.PRECONDITION_FAILED),
+
     // 415 - Unsupported Media Type
     UNSUPPORTED_MEDIA_TYPE("Unsupported media type", HttpStatus.UNSUPPORTED_MEDIA_TYPE),
     
+    // 428 - Precondition Required
+    PRECONDITION_REQUIRED("If-Match header is required", HttpStatus.PRECONDITION_REQUIRED),
+
     // 429 - Too Many Requests
     TOO_MANY_REQUESTS("Too many requests", HttpStatus.TOO_MANY_REQUESTS),
     
@@ -0,0 +1,14 @@
+package com.example.taskmanagement.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and newest {@code updatedAt} of one owner's rows in a table. Every insert or update
+ * moves {@code lastUpdated} forward and every delete lowers {@code count}, so the pair changes
+ * whenever any of the rows does.
+ */
+public record ChangeStamp(
+        long count,
+        LocalDateTime lastUpdated
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanagement.model.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for project list and detail views. {@code taskCount} is the number of
+ * tasks that are not DONE, aggregated by the database instead of loading the tasks.
+ */
+public record ProjectSummary(
+        UUID id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version,
+        long taskCount
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanagement.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versions and timestamps behind a task representation. The task response embeds the
+ * project name, so the project's version is part of it.
+ */
+public record TaskRevision(
+        long version,
+        LocalDateTime updatedAt,
+        long projectVersion,
+        LocalDateTime projectUpdatedAt
+) {
+
+    public LocalDateTime lastModified() {
+        if (updatedAt == null || projectUpdatedAt == null)
+            return updatedAt != null ? updatedAt : projectUpdatedAt;
+        return updatedAt.isAfter(projectUpdatedAt) ? updatedAt : projectUpdatedAt;
+    }
+}
@@ -1,29 +1,71 @@
 package com.example.taskmanagement.repositories;
 
 import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.projection.ChangeStamp;
+import com.example.taskmanagement.model.projection.ProjectSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.ownerId = :ownerId")
-    List<Project> findAllWithTasks(String ownerId);
+    // Project columns plus the number of open (non-DONE) tasks, counted in SQL
+    String SUMMARY_SELECT = "SELECT new com.example.taskmanagement.model.projection.ProjectSummary(" +
+            "p.id, p.name, p.description, p.createdAt, p.updatedAt, p.version, " +
+            "COUNT(t.id) FILTER (WHERE t.status <> com.example.taskmanagement.model.enums.TaskStatus.DONE)) " +
+            "FROM Project p LEFT JOIN p.tasks t ";
+    String SUMMARY_GROUP_BY = " GROUP BY p.id, p.name, p.description, p.createdAt, p.updatedAt, p.version";
+    String STREAM_FETCH_SIZE = "500";
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.ownerId = :ownerId")
-    Page<Project> findAllWithTasksPaginated(String ownerId, Pageable pageable);
-    
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id = :id AND p.ownerId = :ownerId")
-    Optional<Project> findByIdAndOwnerId(String ownerId, UUID id);
+    // Summaries are projections, so only the fetch size matters - nothing ends up in the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE p.ownerId = :ownerId" + SUMMARY_GROUP_BY + " ORDER BY p.createdAt, p.id")
+    Stream<ProjectSummary> streamAllSummaries(String ownerId);
+
+    // Pages only the ids so LIMIT/OFFSET run in SQL over the projects table alone
+    @Query(value = "SELECT p.id FROM Project p WHERE p.ownerId = :ownerId ORDER BY p.createdAt, p.id",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.ownerId = :ownerId")
+    Page<UUID> findIdsByOwnerId(String ownerId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p WHERE p.ownerId = :ownerId ORDER BY p.createdAt, p.id")
+    Slice<UUID> findIdsByOwnerIdSliced(String ownerId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids" + SUMMARY_GROUP_BY)
+    List<ProjectSummary> findSummariesByIdIn(Collection<UUID> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id = :id AND p.ownerId = :ownerId" + SUMMARY_GROUP_BY)
+    Optional<ProjectSummary> findSummaryByIdAndOwnerId(String ownerId, UUID id);
+
+    // Primary key lookup, so hot projects come from the second-level cache; ownership is checked on the cached row
+    default Optional<Project> findByIdAndOwnerId(String ownerId, UUID id) {
+        return findById(id).filter(project -> project.getOwnerId().equals(ownerId));
+    }
+
+    // Query cache: the result is dropped whenever the projects table changes, task writes do not affect it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsByIdAndOwnerId(UUID id, String ownerId);
+
+    @Query("SELECT new com.example.taskmanagement.model.projection.ChangeStamp(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM Project p WHERE p.ownerId = :ownerId")
+    ChangeStamp findChangeStampByOwnerId(String ownerId);
+
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids AND p.ownerId = :ownerId")
+    List<Project> findAllByIdInAndOwnerId(String ownerId, Collection<UUID> ids);
 
     @Modifying
     @Transactional
@@ -0,0 +1,16 @@
+package com.example.taskmanagement.repositories;
+
+import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Set-based task updates. The specification becomes the WHERE clause of a single UPDATE
+ * statement, so it must only use columns of the tasks table (no joins).
+ */
+public interface TaskBulkUpdateRepository {
+
+    // Null targets are left unchanged; updatedAt is always bumped. Returns the number of updated rows.
+    int bulkUpdate(Specification<Task> specification, TaskStatus targetStatus, Project targetProject);
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanagement.repositories;
+
+import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int bulkUpdate(Specification<Task> specification, TaskStatus targetStatus, Project targetProject) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (targetStatus != null)
+            update.set(root.<TaskStatus>get("status"), targetStatus);
+        if (targetProject != null)
+            update.set(root.<Project>get("project"), targetProject);
+        // Bulk statements skip @PreUpdate and @Version, so the timestamp and version are set here
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(specification.toPredicate(root, null, cb));
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true): no pending changes are lost
+        // and no stale task stays in the persistence context after the UPDATE
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagement.repositories;
+
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over task name and description. Only ids are returned,
+ * in result order - callers load the tasks themselves.
+ * An unsorted pageable orders by relevance.
+ */
+public interface TaskFullTextSearchRepository {
+
+    Page<UUID> searchIds(String ownerId, TaskSearchRequestDto criteria, Pageable pageable);
+
+    Slice<UUID> searchIdsSliced(String ownerId, TaskSearchRequestDto criteria, Pageable pageable);
+}
@@ -0,0 +1,172 @@
+package com.example.taskmanagement.repositories;
+
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PostgreSQL matches against the generated {@code search_vector} column (GIN indexed) and ranks
+ * with ts_rank. Any other database (H2 in tests) falls back to a LIKE match per search term,
+ * ranking name hits above description hits.
+ */
+public class TaskFullTextSearchRepositoryImpl implements TaskFullTextSearchRepository {
+
+    private static final String TEXT_SEARCH_CONFIG = "english";
+    // Upper bound on the terms used by the LIKE fallback, each one adds two predicates
+    private static final int MAX_FALLBACK_TERMS = 8;
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "t.created_at",
+            "updatedAt", "t.updated_at",
+            "name", "t.name",
+            "status", "t.status");
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    public TaskFullTextSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.postgres = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public Page<UUID> searchIds(String ownerId, TaskSearchRequestDto criteria, Pageable pageable) {
+        SearchSql sql = buildSearchSql(ownerId, criteria);
+
+        List<UUID> ids = selectIds(sql, pageable, pageable.getPageSize());
+        Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM tasks t WHERE " + sql.where());
+        sql.bind(countQuery);
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    @Override
+    public Slice<UUID> searchIdsSliced(String ownerId, TaskSearchRequestDto criteria, Pageable pageable) {
+        SearchSql sql = buildSearchSql(ownerId, criteria);
+
+        // One extra row tells whether there is a next slice
+        List<UUID> ids = selectIds(sql, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> selectIds(SearchSql sql, Pageable pageable, int limit) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT t.id FROM tasks t WHERE " + sql.where() + " ORDER BY " + orderBy(sql, pageable.getSort()),
+                UUID.class);
+        sql.bind(query);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private SearchSql buildSearchSql(String ownerId, TaskSearchRequestDto criteria) {
+        StringBuilder where = new StringBuilder("t.owner_cognito_id = :ownerId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ownerId", ownerId);
+        String rank;
+
+        if (postgres) {
+            where.append(" AND t.search_vector @@ websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :q)");
+            rank = "ts_rank(t.search_vector, websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :q))";
+            parameters.put("q", criteria.getQ());
+        } else {
+            List<String> terms = Arrays.stream(criteria.getQ().toLowerCase(Locale.ROOT).split("\\s+"))
+                    .filter(StringUtils::hasText)
+                    .limit(MAX_FALLBACK_TERMS)
+                    .toList();
+            StringBuilder rankSum = new StringBuilder("0");
+            for (int i = 0; i < terms.size(); i++) {
+                String nameMatch = "LOWER(t.name) LIKE :term" + i + " ESCAPE '\\'";
+                String descriptionMatch = "LOWER(t.description) LIKE :term" + i + " ESCAPE '\\'";
+                where.append(" AND (").append(nameMatch).append(" OR ").append(descriptionMatch).append(')');
+                rankSum.append(" + CASE WHEN ").append(nameMatch).append(" THEN 2 ELSE 0 END")
+                        .append(" + CASE WHEN ").append(descriptionMatch).append(" THEN 1 ELSE 0 END");
+                parameters.put("term" + i, "%" + escapeLike(terms.get(i)) + "%");
+            }
+            rank = rankSum.toString();
+        }
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            where.append(" AND t.status IN (:statuses)");
+            parameters.put("statuses", criteria.getStatus().stream().map(Enum::name).toList());
+        }
+        if (StringUtils.hasText(criteria.getProjectId())) {
+            where.append(" AND t.project_id = :projectId");
+            parameters.put("projectId", UUID.fromString(criteria.getProjectId()));
+        }
+        if (StringUtils.hasText(criteria.getNamePrefix())) {
+            where.append(" AND t.name LIKE :namePrefix ESCAPE '\\'");
+            parameters.put("namePrefix", escapeLike(criteria.getNamePrefix()) + "%");
+        }
+        if (criteria.getCreatedFrom() != null) {
+            where.append(" AND t.created_at >= :createdFrom");
+            parameters.put("createdFrom", criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            where.append(" AND t.created_at < :createdTo");
+            parameters.put("createdTo", criteria.getCreatedTo());
+        }
+        if (criteria.getUpdatedFrom() != null) {
+            where.append(" AND t.updated_at >= :updatedFrom");
+            parameters.put("updatedFrom", criteria.getUpdatedFrom());
+        }
+        if (criteria.getUpdatedTo() != null) {
+            where.append(" AND t.updated_at < :updatedTo");
+            parameters.put("updatedTo", criteria.getUpdatedTo());
+        }
+
+        return new SearchSql(where.toString(), rank, parameters);
+    }
+
+    // Relevance first unless the caller picked a sort; created_at and id keep the order stable
+    private String orderBy(SearchSql sql, Sort sort) {
+        if (sort.isUnsorted())
+            return sql.rank() + " DESC, t.created_at DESC, t.id";
+
+        return sort.stream()
+                .map(order -> {
+                    String column = order.getProperty().equals("id") ? "t.id" : SORT_COLUMNS.get(order.getProperty());
+                    if (column == null)
+                        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .reduce((left, right) -> left + ", " + right)
+                .orElseThrow();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private record SearchSql(String where, String rank, Map<String, Object> parameters) {
+
+        void bind(Query query) {
+            // The rank expression is only part of the select query, it reuses the same parameters
+            parameters.forEach(query::setParameter);
+        }
+    }
+}
@@ -1,33 +1,119 @@
 package com.example.taskmanagement.repositories;
 
 import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.projection.ChangeStamp;
+import com.example.taskmanagement.model.projection.TaskRevision;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+// Ownership is filtered on t.ownerId; the project is only fetched because TaskResponseDto shows its name
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>,
+        TaskFullTextSearchRepository, TaskBulkUpdateRepository {
+
+    String STREAM_FETCH_SIZE = "500";
 
-    @Query("SELECT t FROM Task t JOIN FETCH t.project p WHERE p.ownerId = :ownerId")
-    List<Task> findAllByOwnerId(String ownerId);
+    // Rows are pulled from the JDBC cursor fetch-size at a time; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.ownerId = :ownerId ORDER BY t.createdAt, t.id")
+    Stream<Task> streamAllByOwnerId(String ownerId);
 
-    @Query("SELECT t FROM Task t JOIN FETCH t.project p WHERE t.project.id = :projectId AND p.ownerId = :ownerId")
-    List<Task> findByProjectIdAndOwnerId(UUID projectId, String ownerId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.project.id = :projectId AND t.ownerId = :ownerId " +
+            "ORDER BY t.createdAt, t.id")
+    Stream<Task> streamByProjectIdAndOwnerId(UUID projectId, String ownerId);
 
-    @Query("SELECT t FROM Task t JOIN FETCH t.project p WHERE t.id = :taskId AND p.ownerId = :ownerId")
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.id = :taskId AND t.ownerId = :ownerId")
     Optional<Task> findByIdAndOwnerId(UUID taskId, String ownerId);
+
+    boolean existsByIdAndOwnerId(UUID id, String ownerId);
+
+    // Conditional GET: scalar columns only, no entity is loaded
+    @Query("SELECT new com.example.taskmanagement.model.projection.TaskRevision(t.version, t.updatedAt, p.version, p.updatedAt) " +
+            "FROM Task t JOIN t.project p WHERE t.id = :taskId AND t.ownerId = :ownerId")
+    Optional<TaskRevision> findRevisionByIdAndOwnerId(UUID taskId, String ownerId);
+
+    @Query("SELECT new com.example.taskmanagement.model.projection.ChangeStamp(COUNT(t), MAX(t.updatedAt)) " +
+            "FROM Task t WHERE t.ownerId = :ownerId")
+    ChangeStamp findChangeStampByOwnerId(String ownerId);
+
+    // Single statement delete; a count of 0 means the task does not exist or belongs to someone else
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Task t WHERE t.id = :taskId AND t.ownerId = :ownerId")
+    int deleteByIdAndOwnerId(UUID taskId, String ownerId);
+
+    // Project deletion: all tasks in one statement, or chunk by chunk for very large projects
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId AND t.ownerId = :ownerId")
+    int deleteAllByProjectIdAndOwnerId(UUID projectId, String ownerId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.ownerId = :ownerId")
+    List<UUID> findIdsByProjectIdAndOwnerId(UUID projectId, String ownerId, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(Collection<UUID> ids);
+
+    // Second phase of full-text search, the ids are already owner scoped
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.id IN :ids")
+    List<Task> findAllWithProjectByIdIn(Collection<UUID> ids);
     
 
-    @Query("SELECT t FROM Task t JOIN FETCH t.project p WHERE p.ownerId = :ownerId")
+    @Query(value = "SELECT t FROM Task t JOIN FETCH t.project WHERE t.ownerId = :ownerId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.ownerId = :ownerId")
     Page<Task> findAllByOwnerIdPaginated(String ownerId, Pageable pageable);
 
-    @Query("SELECT t FROM Task t JOIN FETCH t.project p WHERE t.project.id = :projectId AND p.ownerId = :ownerId")
+    @Query(value = "SELECT t FROM Task t JOIN FETCH t.project WHERE t.project.id = :projectId AND t.ownerId = :ownerId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.ownerId = :ownerId")
     Page<Task> findByProjectIdAndOwnerIdPaginated(UUID projectId, String ownerId, Pageable pageable);
+
+    // Slice variants fetch size+1 rows and skip the COUNT query
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.ownerId = :ownerId")
+    Slice<Task> findAllByOwnerIdSliced(String ownerId, Pageable pageable);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.project.id = :projectId AND t.ownerId = :ownerId")
+    Slice<Task> findByProjectIdAndOwnerIdSliced(UUID projectId, String ownerId, Pageable pageable);
+
+    // Keyset pagination: rows are walked in (createdAt, id) order so every page is an index range scan
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.ownerId = :ownerId ORDER BY t.createdAt, t.id")
+    List<Task> findAllByOwnerIdKeyset(String ownerId, Limit limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.ownerId = :ownerId " +
+            "AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findAllByOwnerIdAfter(String ownerId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.project.id = :projectId AND t.ownerId = :ownerId " +
+            "ORDER BY t.createdAt, t.id")
+    List<Task> findByProjectIdAndOwnerIdKeyset(UUID projectId, String ownerId, Limit limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project WHERE t.project.id = :projectId AND t.ownerId = :ownerId " +
+            "AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findByProjectIdAndOwnerIdAfter(UUID projectId, String ownerId, LocalDateTime createdAt, UUID id, Limit limit);
 }
@@ -0,0 +1,51 @@
+package com.example.taskmanagement.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Conditional updates of versioned, owner-scoped entities (Task, Project) in one statement:
+ * UPDATE ... SET changes, version = version + 1 WHERE id = ? AND owner = ? AND version = ?
+ * Nothing is read first; a result of 0 means the row is missing, foreign or was modified.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VersionedUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    @Transactional
+    public <T> int updateIfVersionMatches(Class<T> entityClass, UUID id, String ownerId,
+                                          long expectedVersion, Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+
+        changes.forEach((attribute, value) -> {
+            Path<Object> path = root.get(attribute);
+            if (value == null)
+                update.<Object>set(path, cb.nullLiteral(Object.class));
+            else
+                update.set(path, value);
+        });
+        // Bulk statements skip @Version and @PreUpdate
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("ownerId"), ownerId),
+                cb.equal(root.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanagement.repositories.specifications;
+
+import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Predicates for dynamic task queries. Each one maps onto a column of the
+ * owner-first composite indexes on {@code tasks}, so callers should always
+ * combine them with {@link #ownedBy(String)}.
+ */
+@UtilityClass
+public class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    public static Specification<Task> ownedBy(String ownerId) {
+        return (root, query, cb) -> cb.equal(root.get("ownerId"), ownerId);
+    }
+
+    public static Specification<Task> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        // project.id resolves to the project_id foreign key, no join needed
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    // Prefix only (LIKE 'abc%') so the database can range-scan the name index
+    public static Specification<Task> nameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("name"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Task> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Task> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    public static Specification<Task> updatedFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("updatedAt"), from);
+    }
+
+    public static Specification<Task> updatedBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("updatedAt"), to);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -1,31 +1,68 @@
 package com.example.taskmanagement.services;
 
 import com.example.taskmanagement.exceptions.UserNotFoundException;
+import com.example.taskmanagement.model.dto.response.PagedResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
     private final CognitoService cognitoService;
+    private final CognitoUserDirectory userDirectory;
 
-    public List<UserType> listUsers() {
-        return cognitoService.listUsers();
+    // Fetched by the request thread, so a Cognito failure here is still an error response
+    public ListUsersResponse firstUserPage() {
+        return cognitoService.firstUserPage();
+    }
+
+    // The users of firstPage, then every page after it
+    public void streamUsers(ListUsersResponse firstPage, Consumer<UserType> action) {
+        firstPage.users().forEach(action);
+        if (StringUtils.hasText(firstPage.paginationToken()))
+            cognitoService.forEachUser(firstPage.paginationToken(), action);
+    }
+
+    // Cursor mode - the cursor is Cognito's pagination token, an empty one starts from the first page
+    public PagedResponse<UserType> listUsers(String after, int size) {
+        if (size < 1 || size > CognitoService.LIST_USERS_PAGE_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CognitoService.LIST_USERS_PAGE_SIZE);
+
+        ListUsersResponse page = cognitoService.listUsers(StringUtils.hasText(after) ? after : null, size);
+        return PagedResponse.ofKeyset(page.users(), size, !StringUtils.hasText(after), page.paginationToken());
+    }
+
+    // Capped like a cursor page, so a search cannot return the whole directory at once
+    public List<UserType> searchUsersByEmail(String emailPrefix, int limit) {
+        if (limit < 1 || limit > CognitoService.LIST_USERS_PAGE_SIZE)
+            throw new IllegalArgumentException("Limit must be between 1 and " + CognitoService.LIST_USERS_PAGE_SIZE);
+
+        return userDirectory.searchByEmailPrefix(emailPrefix, limit);
     }
 
     public UserType getUserById(String id) {
-        return cognitoService.getUserBySub(id)
+        return userDirectory.findBySub(id)
                 .orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found"));
     }
 
     public void deleteUserById(String id) {
-        UserType user = cognitoService.getUserBySub(id)
+        UserType user = userDirectory.findBySub(id)
                 .orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found"));
 
-        cognitoService.deleteUserByUsername(user.username());
+        try {
+            cognitoService.deleteUserByUsername(user.username());
+        } catch (software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotFoundException e) {
+            // Deleted outside this service since the directory last saw it
+            userDirectory.remove(user);
+            throw new UserNotFoundException("User with id " + id + " not found");
+        }
+        userDirectory.remove(user);
     }
-} 
\ No newline at end of file
+}
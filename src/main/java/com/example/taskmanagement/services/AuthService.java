@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.*;
 
+import java.util.concurrent.CompletableFuture;
+
 
 @Service
 @RequiredArgsConstructor
@@ -15,43 +17,43 @@ public class AuthService {
     private final CognitoService cognitoService;
 
 
-    public String signIn(SignInRequestDto request) {
+    public CompletableFuture<String> signIn(SignInRequestDto request) {
         String loginIdentifier = request.getLoginIdentifier();
 
-        AdminInitiateAuthResponse authResponse = cognitoService.authenticateUser(loginIdentifier, request.getPassword());
-
-        if (authResponse.authenticationResult() != null)
-            return authResponse.authenticationResult().idToken();
-        if (authResponse.challengeName() == ChallengeNameType.NEW_PASSWORD_REQUIRED)
-            throw new AuthenticationException(ErrorCode.PASSWORD_CHANGE_REQUIRED.getDescription(),ErrorCode.PASSWORD_CHANGE_REQUIRED);
+        return cognitoService.authenticateUser(loginIdentifier, request.getPassword())
+                .thenApply(authResponse -> {
+                    if (authResponse.authenticationResult() != null)
+                        return authResponse.authenticationResult().idToken();
+                    if (authResponse.challengeName() == ChallengeNameType.NEW_PASSWORD_REQUIRED)
+                        throw new AuthenticationException(ErrorCode.PASSWORD_CHANGE_REQUIRED.getDescription(),ErrorCode.PASSWORD_CHANGE_REQUIRED);
 
-        throw new AuthenticationException("Unexpected authentication error");
+                    throw new AuthenticationException("Unexpected authentication error");
+                });
     }
 
 
-    public String forcePasswordChange(SignInRequestDto request) {
+    public CompletableFuture<String> forcePasswordChange(SignInRequestDto request) {
         String loginIdentifier = request.getLoginIdentifier();
 
         if (request.getNewPassword() == null || request.getNewPassword().trim().isEmpty())
             throw new AuthenticationException("New password is required for password change");
 
         // First, authenticate with the current password to get the session
-        AdminInitiateAuthResponse authResponse = cognitoService.authenticateUser(loginIdentifier, request.getPassword());
-
-        if (authResponse.challengeName() == ChallengeNameType.NEW_PASSWORD_REQUIRED) {
-            AdminRespondToAuthChallengeResponse challengeResponse = cognitoService.changePassword(
-                    authResponse, loginIdentifier, request.getNewPassword()
-            );
-
-            if (challengeResponse.authenticationResult() != null)
-                return challengeResponse.authenticationResult().idToken();
-
-            throw new AuthenticationException("Failed to complete password change");
-        } else {
-            throw new AuthenticationException("Password change not required for this user");
-        }
+        return cognitoService.authenticateUser(loginIdentifier, request.getPassword())
+                .thenCompose(authResponse -> {
+                    if (authResponse.challengeName() != ChallengeNameType.NEW_PASSWORD_REQUIRED)
+                        throw new AuthenticationException("Password change not required for this user");
+
+                    return cognitoService.changePassword(authResponse, loginIdentifier, request.getNewPassword());
+                })
+                .thenApply(challengeResponse -> {
+                    if (challengeResponse.authenticationResult() != null)
+                        return challengeResponse.authenticationResult().idToken();
+
+                    throw new AuthenticationException("Failed to complete password change");
+                });
     }
 
 
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanagement.services;
+
+import com.example.taskmanagement.model.dto.response.CacheStatsDto;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+
+    // Counters since startup for every second-level cache region and the verified-token cache
+    List<CacheStatsDto> getCacheStats();
+}
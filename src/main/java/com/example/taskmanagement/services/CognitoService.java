@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClient;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.*;
 
@@ -14,13 +15,22 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 
 @Service
 @RequiredArgsConstructor
 public class CognitoService {
 
+    // The largest page ListUsers returns
+    public static final int LIST_USERS_PAGE_SIZE = 60;
+    private static final int PREFETCHED_PAGES = 2;
+
     private final CognitoIdentityProviderClient cognitoClient;
+    private final CognitoIdentityProviderAsyncClient cognitoAsyncClient;
 
     @Value("${aws.cognito.user-pool-id}")
     private String userPoolId;
@@ -29,7 +39,8 @@ public class CognitoService {
     @Value("${aws.cognito.client-secret}")
     private String clientSecret;
 
-    public AdminInitiateAuthResponse authenticateUser(String loginIdentifier, String password) {
+    // Runs on the async client, so no request thread waits for Cognito
+    public CompletableFuture<AdminInitiateAuthResponse> authenticateUser(String loginIdentifier, String password) {
         AdminInitiateAuthRequest authRequest = AdminInitiateAuthRequest.builder()
                 .userPoolId(userPoolId)
                 .clientId(clientId)
@@ -41,10 +52,10 @@ public class CognitoService {
                 ))
                 .build();
 
-        return cognitoClient.adminInitiateAuth(authRequest);
+        return cognitoAsyncClient.adminInitiateAuth(authRequest);
     }
 
-    public AdminRespondToAuthChallengeResponse changePassword(AdminInitiateAuthResponse authResponse, String loginIdentifier, String newPassword) {
+    public CompletableFuture<AdminRespondToAuthChallengeResponse> changePassword(AdminInitiateAuthResponse authResponse, String loginIdentifier, String newPassword) {
         Map<String, String> challengeResponses = new HashMap<>();
         challengeResponses.put("USERNAME", loginIdentifier);
         challengeResponses.put("NEW_PASSWORD", newPassword);
@@ -58,7 +69,7 @@ public class CognitoService {
                 .session(authResponse.session())
                 .build();
 
-        return cognitoClient.adminRespondToAuthChallenge(challengeRequest);
+        return cognitoAsyncClient.adminRespondToAuthChallenge(challengeRequest);
     }
 
     private String calculateSecretHash(String username) {
@@ -74,19 +85,84 @@ public class CognitoService {
         }
     }
 
-    public List<UserType> listUsers() {
+    // One page of at most LIST_USERS_PAGE_SIZE users; a null token starts from the first page
+    public ListUsersResponse listUsers(String paginationToken, int limit) {
+        ListUsersRequest request = ListUsersRequest.builder()
+                .userPoolId(userPoolId)
+                .limit(Math.min(limit, LIST_USERS_PAGE_SIZE))
+                .paginationToken(paginationToken)
+                .build();
+
         try {
-            ListUsersRequest request = ListUsersRequest.builder()
-                    .userPoolId(userPoolId)
-                    .build();
+            return cognitoClient.listUsers(request);
+        } catch (InvalidParameterException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + paginationToken, e);
+        }
+    }
 
-            ListUsersResponse response = cognitoClient.listUsers(request);
-            return response.users();
-        } catch (Exception e) {
+    // First page of the whole pool; a streamed listing reads it before its response is committed
+    public ListUsersResponse firstUserPage() {
+        try {
+            return listUsers(null, LIST_USERS_PAGE_SIZE);
+        } catch (CognitoIdentityProviderException e) {
             throw new InternalErrorException("Failed to list users", e);
         }
     }
 
+    public void forEachUser(Consumer<UserType> action) {
+        forEachUser(null, action);
+    }
+
+    /**
+     * Walks every page of the pool with the SDK paginator, starting at the given pagination token (null for the
+     * first page). The next page is fetched on a virtual thread while the action runs over the current one;
+     * at most PREFETCHED_PAGES pages wait in memory.
+     */
+    public void forEachUser(String paginationToken, Consumer<UserType> action) {
+        ListUsersRequest request = ListUsersRequest.builder()
+                .userPoolId(userPoolId)
+                .limit(LIST_USERS_PAGE_SIZE)
+                .paginationToken(paginationToken)
+                .build();
+
+        BlockingQueue<UserPage> pages = new ArrayBlockingQueue<>(PREFETCHED_PAGES);
+        Thread prefetcher = Thread.ofVirtual().name("cognito-list-users").start(() -> {
+            try {
+                try {
+                    for (ListUsersResponse page : cognitoClient.listUsersPaginator(request))
+                        pages.put(new UserPage(page.users(), null));
+                    pages.put(UserPage.END);
+                } catch (Throwable e) {
+                    // Errors too, otherwise the consumer would wait for a page that never comes
+                    pages.put(new UserPage(null, e));
+                }
+            } catch (InterruptedException e) {
+                // The consumer stopped, nobody reads the remaining pages
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            UserPage page;
+            while ((page = pages.take()) != UserPage.END) {
+                if (page.failure() instanceof Error error)
+                    throw error;
+                if (page.failure() != null)
+                    throw new InternalErrorException("Failed to list users", (Exception) page.failure());
+                page.users().forEach(action);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException("Listing users was interrupted", e);
+        } finally {
+            prefetcher.interrupt();
+        }
+    }
+
+    private record UserPage(List<UserType> users, Throwable failure) {
+        static final UserPage END = new UserPage(List.of(), null);
+    }
+
     public Optional<UserType> getUserBySub(String sub) {
         ListUsersRequest request = ListUsersRequest.builder()
                 .userPoolId(userPoolId)
@@ -0,0 +1,180 @@
+package com.example.taskmanagement.services;
+
+import com.example.taskmanagement.utils.CognitoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory copy of the user pool, indexed by {@code sub} and by email. It is filled by the scheduled
+ * refresh, which lists the whole pool page by page and applies only the differences. A sub that is not
+ * known yet is looked up in Cognito once and kept.
+ * <p>
+ * A listing takes a while, and users can be looked up or deleted in the meantime. Every local change
+ * gets a number from a generation counter; a refresh leaves alone the users changed after its listing
+ * started, so it neither brings back a deleted user nor drops one that was just looked up.
+ * Writes to the two indexes happen under one lock, reads take no lock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CognitoUserDirectory {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final CognitoService cognitoService;
+
+    private final Map<String, UserType> usersBySub = new ConcurrentHashMap<>();
+    // Lower-cased "email NUL sub" keys, sorted so that an email prefix is a key range
+    private final ConcurrentNavigableMap<String, String> subsByEmail = new ConcurrentSkipListMap<>();
+
+    // Not synchronized: a monitor held around map updates would pin virtual threads
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    // Generation of the last local put or remove per sub, guarded by writeLock; pruned by each refresh
+    private final Map<String, Long> localChanges = new HashMap<>();
+
+    public Optional<UserType> findBySub(String sub) {
+        UserType user = usersBySub.get(sub);
+        if (user != null)
+            return Optional.of(user);
+
+        long lookupStarted = generation.get();
+        Optional<UserType> remoteUser = cognitoService.getUserBySub(sub);
+        remoteUser.ifPresent(found -> {
+            writeLock.lock();
+            try {
+                // A delete that finished during the lookup wins
+                if (!changedSince(sub, lookupStarted))
+                    putLocally(sub, found);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+        return remoteUser;
+    }
+
+    // Only covers users the directory has seen, so it is complete once the first refresh has run
+    public List<UserType> searchByEmailPrefix(String emailPrefix, int limit) {
+        String from = emailPrefix.toLowerCase(Locale.ROOT);
+        return subsByEmail.subMap(from, from + Character.MAX_VALUE).values().stream()
+                .map(usersBySub::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+
+    public void remove(UserType user) {
+        String sub = CognitoUtils.extractAttributeValue(user, "sub");
+        if (sub == null)
+            return;
+        writeLock.lock();
+        try {
+            localChanges.put(sub, generation.incrementAndGet());
+            removeEntry(sub);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return usersBySub.size();
+    }
+
+    // One ListUsers call per 60 users on every instance, so the interval is long; see README
+    @Scheduled(initialDelayString = "${app.users.directory.initial-delay:0s}",
+            fixedDelayString = "${app.users.directory.refresh-interval:6h}")
+    public void refresh() {
+        // ListUsers cannot filter by modification date, so the pool is listed and compared
+        long listingStarted = generation.get();
+        Map<String, UserType> listedUsers = new HashMap<>();
+        try {
+            cognitoService.forEachUser(user -> {
+                String sub = CognitoUtils.extractAttributeValue(user, "sub");
+                if (sub != null)
+                    listedUsers.put(sub, user);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Refreshing the user directory failed, keeping {} users", usersBySub.size(), e);
+            return;
+        }
+
+        int changed = 0;
+        int removed = 0;
+        writeLock.lock();
+        try {
+            for (Map.Entry<String, UserType> listed : listedUsers.entrySet()) {
+                String sub = listed.getKey();
+                if (!changedSince(sub, listingStarted) && !listed.getValue().equals(usersBySub.get(sub))) {
+                    putEntry(sub, listed.getValue());
+                    changed++;
+                }
+            }
+
+            for (String sub : usersBySub.keySet()) {
+                if (!listedUsers.containsKey(sub) && !changedSince(sub, listingStarted)) {
+                    removeEntry(sub);
+                    removed++;
+                }
+            }
+
+            // The listing has seen every change made before it started
+            localChanges.values().removeIf(changedAt -> changedAt <= listingStarted);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("User directory refreshed: {} users, {} changed, {} removed", usersBySub.size(), changed, removed);
+    }
+
+    // The methods below expect writeLock to be held
+
+    private boolean changedSince(String sub, long since) {
+        Long changedAt = localChanges.get(sub);
+        return changedAt != null && changedAt > since;
+    }
+
+    private void putLocally(String sub, UserType user) {
+        localChanges.put(sub, generation.incrementAndGet());
+        putEntry(sub, user);
+    }
+
+    private void putEntry(String sub, UserType user) {
+        UserType previous = usersBySub.put(sub, user);
+        if (previous != null)
+            removeEmailKey(sub, previous);
+        String emailKey = emailKey(sub, user);
+        if (emailKey != null)
+            subsByEmail.put(emailKey, sub);
+    }
+
+    private void removeEntry(String sub) {
+        UserType removed = usersBySub.remove(sub);
+        if (removed != null)
+            removeEmailKey(sub, removed);
+    }
+
+    private void removeEmailKey(String sub, UserType user) {
+        String emailKey = emailKey(sub, user);
+        if (emailKey != null)
+            subsByEmail.remove(emailKey);
+    }
+
+    private static String emailKey(String sub, UserType user) {
+        String email = CognitoUtils.extractAttributeValue(user, "email");
+        return email == null ? null : email.toLowerCase(Locale.ROOT) + KEY_SEPARATOR + sub;
+    }
+}
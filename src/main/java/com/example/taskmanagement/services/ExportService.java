@@ -0,0 +1,10 @@
+package com.example.taskmanagement.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    // Writes all projects, then all tasks, of the owner as NDJSON
+    void exportWorkspace(String ownerId, OutputStream out) throws IOException;
+}
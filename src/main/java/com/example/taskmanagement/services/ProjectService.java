@@ -2,20 +2,36 @@ package com.example.taskmanagement.services;
 
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.projection.ProjectSummary;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 
 public interface ProjectService {
 
-    List<Project> listProjects(String ownerId);
-    PagedResponse<Project> listProjects(String ownerId, Pageable pageable);
+    void streamProjects(String ownerId, Consumer<ProjectSummary> action);
+    PagedResponse<ProjectSummary> listProjects(String ownerId, Pageable pageable);
+    PagedResponse<ProjectSummary> listProjectsSlice(String ownerId, Pageable pageable);
 
     Project getProjectById(String ownerId, String projectId);
+    // Checks ownership without loading the project; the returned reference is initialized only on access
+    Project getProjectReference(String ownerId, String projectId);
+    // Only the projects that exist and belong to the owner are in the result
+    Map<UUID, Project> getProjectsById(String ownerId, Collection<UUID> projectIds);
+    ProjectSummary getProjectSummary(String ownerId, String projectId);
+    // One validator for every project and task list of the owner
+    String getWorkspaceETag(String ownerId);
 
     Project createProject(String ownerId, Project project);
     void deleteProject(String ownerId, String projectId);
+    // Checks ownership now, deletes the tasks in chunks on a background thread
+    void deleteProjectInBackground(String ownerId, String projectId);
     Project updateProject(String ownerId, String projectId, Project project);
+    Project updateProject(String ownerId, String projectId, Project project, Long expectedVersion);
+    long patchProject(String ownerId, String projectId, long expectedVersion, Map<String, Object> patch);
 
 }
@@ -1,24 +1,66 @@
 package com.example.taskmanagement.services;
 
+import com.example.taskmanagement.model.dto.requests.TaskBulkUpdateRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
 import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.ErrorCode;
+import com.example.taskmanagement.model.projection.TaskRevision;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
-    List<Task> listTasks(String ownerId);
-    List<Task> listTasksByProject(Project project);
+    void streamTasks(String ownerId, Consumer<Task> action);
+    void streamTasksByProject(Project project, Consumer<Task> action);
 
     PagedResponse<Task> listTasks(String ownerId, Pageable pageable);
     PagedResponse<Task> listTasksByProject(String ownerId, String projectId, Pageable pageable);
 
+    PagedResponse<Task> listTasksSlice(String ownerId, Pageable pageable);
+    PagedResponse<Task> listTasksByProjectSlice(String ownerId, String projectId, Pageable pageable);
+
+    PagedResponse<Task> listTasks(String ownerId, String after, int size);
+    PagedResponse<Task> listTasksByProject(String ownerId, String projectId, String after, int size);
+
+    PagedResponse<Task> searchTasks(String ownerId, TaskSearchRequestDto criteria, Pageable pageable, boolean count);
+
     Task getTaskById(String ownerId, String taskId);
+    // Validators for conditional GET, read without loading the task
+    TaskRevision getTaskRevision(String ownerId, String taskId);
     Task updateTask(String ownerId, String taskId, Task task);
+    // expectedVersion comes from If-Match; null skips the check
+    Task updateTask(String ownerId, String taskId, Task task, Long expectedVersion);
+    // JSON merge patch as one conditional UPDATE; returns the new version
+    long patchTask(String ownerId, String taskId, long expectedVersion, Map<String, Object> patch);
     void deleteTask(String ownerId, String taskId);
+
+    // One owner-scoped UPDATE; returns the number of tasks changed
+    int bulkUpdateTasks(String ownerId, TaskBulkUpdateRequestDto bulkUpdate);
+
+    // Items are validated and checked individually; the valid ones are inserted together
+    List<BatchItemResult> createTasks(String ownerId, List<TaskRequestDto> taskRequests);
+
     Task createTask(String ownerId, String projectId, Task task);
 
+    // Outcome of one batch item: the saved task, or why the item was rejected
+    record BatchItemResult(int index, Task task, ErrorCode errorCode, String message) {
+
+        public static BatchItemResult created(int index, Task task) {
+            return new BatchItemResult(index, task, null, null);
+        }
+
+        public static BatchItemResult failed(int index, ErrorCode errorCode, String message) {
+            return new BatchItemResult(index, null, errorCode, message);
+        }
 
+        public boolean isCreated() {
+            return task != null;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.config.CachingJwtAuthenticationManager;
+import com.example.taskmanagement.model.dto.response.CacheStatsDto;
+import com.example.taskmanagement.services.CacheStatisticsService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    static final String JWT_CACHE_NAME = "jwt-authentications";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CachingJwtAuthenticationManager jwtAuthenticationManager;
+
+    // Region counters need hibernate.generate_statistics=true, otherwise they stay at zero
+    @Override
+    public List<CacheStatsDto> getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Stream<CacheStatsDto> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull);
+
+        // Every verified token is a load, so puts are the successful loads
+        CacheStats jwtStats = jwtAuthenticationManager.stats();
+        CacheStatsDto jwtCache = CacheStatsDto.of(JWT_CACHE_NAME,
+                jwtStats.hitCount(), jwtStats.missCount(), jwtStats.loadSuccessCount());
+
+        return Stream.concat(regions, Stream.of(jwtCache))
+                .sorted(Comparator.comparing(CacheStatsDto::name))
+                .toList();
+    }
+
+    private CacheStatsDto toDto(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null)
+            return null;
+        return CacheStatsDto.of(region, regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(), regionStatistics.getPutCount());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.mappers.ProjectMapper;
+import com.example.taskmanagement.mappers.TaskMapper;
+import com.example.taskmanagement.model.dto.response.ExportLineDto;
+import com.example.taskmanagement.services.ExportService;
+import com.example.taskmanagement.services.ProjectService;
+import com.example.taskmanagement.services.TaskService;
+import com.example.taskmanagement.utils.JsonStreamUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Both cursors run in one repeatable-read transaction, so the tasks match the exported projects
+     * even while the owner keeps editing. The connection is held for the transfer and released right after.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportWorkspace(String ownerId, OutputStream out) throws IOException {
+        JsonStreamUtils.<ExportLineDto>writeLines(objectMapper, out, writer -> {
+            projectService.streamProjects(ownerId,
+                    project -> writer.accept(ExportLineDto.project(projectMapper.toDto(project))));
+            taskService.streamTasks(ownerId,
+                    task -> writer.accept(ExportLineDto.task(taskMapper.toDto(task))));
+        });
+    }
+}
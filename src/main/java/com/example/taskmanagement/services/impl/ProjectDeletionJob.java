@@ -0,0 +1,50 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.repositories.ProjectRepository;
+import com.example.taskmanagement.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes very large projects in the background. Tasks are removed in chunks, each chunk in its own
+ * short transaction, so no single transaction locks tens of thousands of rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectDeletionJob {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.projects.delete-chunk-size:1000}")
+    private int chunkSize;
+
+    @Async("projectDeletionExecutor")
+    public void deleteInChunks(String ownerId, UUID projectId) {
+        try {
+            long deleted = 0;
+            List<UUID> taskIds;
+            while (!(taskIds = taskRepository.findIdsByProjectIdAndOwnerId(projectId, ownerId, Limit.of(chunkSize))).isEmpty())
+                deleted += taskRepository.deleteAllByIdIn(taskIds);
+
+            // Tasks added while the chunks ran are removed together with the project
+            transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.deleteAllByProjectIdAndOwnerId(projectId, ownerId);
+                projectRepository.deleteByIdAndOwnerId(ownerId, projectId);
+            });
+            log.info("Deleted project {} with {} tasks in the background", projectId, deleted);
+        } catch (RuntimeException e) {
+            log.error("Background deletion of project {} failed, it can be retried", projectId, e);
+        }
+    }
+}
@@ -1,35 +1,75 @@
 package com.example.taskmanagement.services.impl;
 
 
+import com.example.taskmanagement.exceptions.PreconditionFailedException;
 import com.example.taskmanagement.exceptions.ProjectNotFoundException;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.projection.ChangeStamp;
+import com.example.taskmanagement.model.projection.ProjectSummary;
 import com.example.taskmanagement.repositories.ProjectRepository;
+import com.example.taskmanagement.repositories.TaskRepository;
+import com.example.taskmanagement.repositories.VersionedUpdateRepository;
+import com.example.taskmanagement.utils.ETagUtils;
+import com.example.taskmanagement.utils.MergePatchUtils;
 import com.example.taskmanagement.services.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectDeletionJob projectDeletionJob;
+    private final VersionedUpdateRepository versionedUpdateRepository;
 
     @Override
-    public List<Project> listProjects(String ownerId) {
-        return projectRepository.findAllWithTasks(ownerId);
+    public PagedResponse<ProjectSummary> listProjects(String ownerId, Pageable pageable) {
+        Page<UUID> idPage = projectRepository.findIdsByOwnerId(ownerId, pageable);
+        Map<UUID, ProjectSummary> projectsById = findSummariesById(idPage.getContent());
+        return PagedResponse.of(idPage.map(projectsById::get));
     }
 
     @Override
-    public PagedResponse<Project> listProjects(String ownerId, Pageable pageable) {
-        Page<Project> projectPage = projectRepository.findAllWithTasksPaginated(ownerId, pageable);
-        return PagedResponse.of(projectPage);
+    public PagedResponse<ProjectSummary> listProjectsSlice(String ownerId, Pageable pageable) {
+        Slice<UUID> idSlice = projectRepository.findIdsByOwnerIdSliced(ownerId, pageable);
+        Map<UUID, ProjectSummary> projectsById = findSummariesById(idSlice.getContent());
+        return PagedResponse.of(idSlice.map(projectsById::get));
+    }
+
+    // Second phase aggregates only the projects on the page; callers restore the page order
+    private Map<UUID, ProjectSummary> findSummariesById(List<UUID> ids) {
+        if (ids.isEmpty())
+            return Map.of();
+
+        return projectRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ProjectSummary::id, Function.identity()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamProjects(String ownerId, Consumer<ProjectSummary> action) {
+        try (Stream<ProjectSummary> projects = projectRepository.streamAllSummaries(ownerId)) {
+            projects.forEach(action);
+        }
     }
 
     @Override
@@ -51,6 +91,44 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    public Project getProjectReference(String ownerId, String projectId) {
+        UUID projectUuid = UUID.fromString(projectId);
+
+        // The existence query is query-cached, so repeated checks for a project do not reach the database
+        if (!projectRepository.existsByIdAndOwnerId(projectUuid, ownerId))
+            throw new ProjectNotFoundException("Project not found with id: " + projectId);
+
+        return projectRepository.getReferenceById(projectUuid);
+    }
+
+    @Override
+    public Map<UUID, Project> getProjectsById(String ownerId, Collection<UUID> projectIds) {
+        if (projectIds.isEmpty())
+            return Map.of();
+
+        return projectRepository.findAllByIdInAndOwnerId(ownerId, projectIds)
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
+
+    @Override
+    public ProjectSummary getProjectSummary(String ownerId, String projectId) {
+        UUID projectUuid = UUID.fromString(projectId);
+
+        return projectRepository.findSummaryByIdAndOwnerId(ownerId, projectUuid)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
+    }
+
+    @Override
+    public String getWorkspaceETag(String ownerId) {
+        // Task lists embed project names and project lists embed open task counts, so both tables count
+        ChangeStamp projects = projectRepository.findChangeStampByOwnerId(ownerId);
+        ChangeStamp tasks = taskRepository.findChangeStampByOwnerId(ownerId);
+        return ETagUtils.of(projects, tasks);
+    }
+
+    @Override
+    @Transactional
     public void deleteProject(String ownerId, String projectId) {
         UUID projectUuid = UUID.fromString(projectId);
 
@@ -59,16 +137,32 @@ public class ProjectServiceImpl implements ProjectService {
         if (projectOpt.isEmpty())
             throw new ProjectNotFoundException("Project not found with id: " + projectId);
 
-        Project project = projectOpt.get();
-        
-        // Delete project and all associated tasks (cascade delete configured in Project entity)
-        // This will automatically delete all tasks that belong to this project
-        projectRepository.delete(project);
+        // Delete all tasks of the project in one statement, then the project itself.
+        // Going through the entity cascade would load and delete every task one by one
+        taskRepository.deleteAllByProjectIdAndOwnerId(projectUuid, ownerId);
+        projectRepository.deleteByIdAndOwnerId(ownerId, projectUuid);
+    }
+
+    @Override
+    public void deleteProjectInBackground(String ownerId, String projectId) {
+        UUID projectUuid = UUID.fromString(projectId);
+
+        if (projectRepository.findByIdAndOwnerId(ownerId, projectUuid).isEmpty())
+            throw new ProjectNotFoundException("Project not found with id: " + projectId);
+
+        // The project stays visible until the job's last transaction, so tasks can still be added to it
+        // while the chunks run; that transaction deletes them together with the project
+        projectDeletionJob.deleteInChunks(ownerId, projectUuid);
     }
 
 
     @Override
     public Project updateProject(String ownerId, String projectId, Project project) {
+        return updateProject(ownerId, projectId, project, null);
+    }
+
+    @Override
+    public Project updateProject(String ownerId, String projectId, Project project, Long expectedVersion) {
         UUID projectUuid = UUID.fromString(projectId);
 
         Optional<Project> existingProject = projectRepository.findByIdAndOwnerId(ownerId, projectUuid);
@@ -76,10 +170,44 @@ public class ProjectServiceImpl implements ProjectService {
             throw new ProjectNotFoundException("Project not found with id: " + projectId);
 
         Project existing = existingProject.get();
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion()))
+            throw new PreconditionFailedException("Project " + projectId + " was modified, current ETag is "
+                    + ETagUtils.of(existing.getVersion()));
+
         existing.setName(project.getName());
         existing.setDescription(project.getDescription());
 
         return projectRepository.save(existing);
     }
 
+    @Override
+    public long patchProject(String ownerId, String projectId, long expectedVersion, Map<String, Object> patch) {
+        UUID projectUuid = UUID.fromString(projectId);
+        Map<String, Object> changes = toProjectChanges(patch);
+
+        if (versionedUpdateRepository.updateIfVersionMatches(Project.class, projectUuid, ownerId, expectedVersion, changes) == 1)
+            return expectedVersion + 1;
+
+        // Only the failure path reads: tell a missing project from a stale ETag
+        if (!projectRepository.existsByIdAndOwnerId(projectUuid, ownerId))
+            throw new ProjectNotFoundException("Project not found with id: " + projectId);
+        throw new PreconditionFailedException("Project " + projectId + " was modified, ETag "
+                + ETagUtils.of(expectedVersion) + " is stale");
+    }
+
+    private Map<String, Object> toProjectChanges(Map<String, Object> patch) {
+        if (patch.isEmpty())
+            throw new IllegalArgumentException("Patch contains no changes");
+
+        Map<String, Object> changes = new HashMap<>();
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "name" -> changes.put(field, MergePatchUtils.requireText(field, value, 255));
+                case "description" -> changes.put(field, MergePatchUtils.optionalText(field, value, 255));
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+        });
+        return changes;
+    }
+
 }
@@ -1,31 +1,68 @@
 package com.example.taskmanagement.services.impl;
 
+import com.example.taskmanagement.exceptions.PreconditionFailedException;
 import com.example.taskmanagement.exceptions.TaskNotFoundException;
+import com.example.taskmanagement.mappers.TaskMapper;
+import com.example.taskmanagement.model.dto.requests.TaskBulkUpdateRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
 import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.ErrorCode;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import com.example.taskmanagement.model.projection.TaskRevision;
 import com.example.taskmanagement.repositories.TaskRepository;
+import com.example.taskmanagement.repositories.VersionedUpdateRepository;
+import com.example.taskmanagement.repositories.specifications.TaskSpecifications;
 import com.example.taskmanagement.services.ProjectService;
 import com.example.taskmanagement.services.TaskService;
+import com.example.taskmanagement.utils.CursorUtils;
+import com.example.taskmanagement.utils.ETagUtils;
+import com.example.taskmanagement.utils.MergePatchUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    // Upper bound on POST /api/tasks/batch, keeps one request's persistence context and transaction small
+    static final int MAX_BATCH_SIZE = 1000;
+    // Sortable search properties. createdAt, updatedAt and status are backed by owner-first indexes; name is not,
+    // the PostgreSQL name index uses varchar_pattern_ops for prefix filters and cannot serve ORDER BY name
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "name", "status");
+
     private final TaskRepository taskRepository;
     private final ProjectService projectService;
-
-    @Override
-    public List<Task> listTasks(String ownerId) {
-        return taskRepository.findAllByOwnerId(ownerId);
-    }
+    private final EntityManager entityManager;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final VersionedUpdateRepository versionedUpdateRepository;
 
     @Override
     public PagedResponse<Task> listTasks(String ownerId, Pageable pageable) {
@@ -34,47 +71,237 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public List<Task> listTasksByProject(Project project) {
-        return taskRepository.findByProjectIdAndOwnerId(project.getId(), project.getOwnerId());
+    @Transactional(readOnly = true)
+    public void streamTasks(String ownerId, Consumer<Task> action) {
+        try (Stream<Task> tasks = taskRepository.streamAllByOwnerId(ownerId)) {
+            forEachDetached(tasks, action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTasksByProject(Project project, Consumer<Task> action) {
+        try (Stream<Task> tasks = taskRepository.streamByProjectIdAndOwnerId(project.getId(), project.getOwnerId())) {
+            forEachDetached(tasks, action);
+        }
     }
 
     @Override
     public PagedResponse<Task> listTasksByProject(String ownerId, String projectId, Pageable pageable) {
         // Validate project exists and belongs to user
-        Project project = projectService.getProjectById(ownerId, projectId);
+        Project project = projectService.getProjectReference(ownerId, projectId);
         
         Page<Task> taskPage = taskRepository.findByProjectIdAndOwnerIdPaginated(
             project.getId(), ownerId, pageable);
         return PagedResponse.of(taskPage);
     }
 
+    @Override
+    public PagedResponse<Task> listTasksSlice(String ownerId, Pageable pageable) {
+        Slice<Task> taskSlice = taskRepository.findAllByOwnerIdSliced(ownerId, pageable);
+        return PagedResponse.of(taskSlice);
+    }
+
+    @Override
+    public PagedResponse<Task> listTasksByProjectSlice(String ownerId, String projectId, Pageable pageable) {
+        // Validate project exists and belongs to user
+        Project project = projectService.getProjectReference(ownerId, projectId);
+
+        Slice<Task> taskSlice = taskRepository.findByProjectIdAndOwnerIdSliced(project.getId(), ownerId, pageable);
+        return PagedResponse.of(taskSlice);
+    }
+
+    @Override
+    public PagedResponse<Task> listTasks(String ownerId, String after, int size) {
+        Limit limit = keysetLimit(size);
+
+        List<Task> tasks;
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            tasks = taskRepository.findAllByOwnerIdAfter(ownerId, cursor.createdAt(), cursor.id(), limit);
+        } else {
+            tasks = taskRepository.findAllByOwnerIdKeyset(ownerId, limit);
+        }
+
+        return toKeysetPage(tasks, size, !StringUtils.hasText(after));
+    }
+
+    @Override
+    public PagedResponse<Task> listTasksByProject(String ownerId, String projectId, String after, int size) {
+        Limit limit = keysetLimit(size);
+
+        // Validate project exists and belongs to user
+        Project project = projectService.getProjectReference(ownerId, projectId);
+
+        List<Task> tasks;
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            tasks = taskRepository.findByProjectIdAndOwnerIdAfter(
+                    project.getId(), ownerId, cursor.createdAt(), cursor.id(), limit);
+        } else {
+            tasks = taskRepository.findByProjectIdAndOwnerIdKeyset(project.getId(), ownerId, limit);
+        }
+
+        return toKeysetPage(tasks, size, !StringUtils.hasText(after));
+    }
+
+    @Override
+    public PagedResponse<Task> searchTasks(String ownerId, TaskSearchRequestDto criteria, Pageable pageable, boolean count) {
+        if (StringUtils.hasText(criteria.getQ()))
+            return fullTextSearch(ownerId, criteria, pageable, count);
+
+        Specification<Task> specification = toSpecification(ownerId, criteria);
+        Pageable sortedPageable = PageRequest.of(
+                pageable.getPageNumber(), pageable.getPageSize(), resolveSearchSort(criteria.getSort()));
+
+        if (count) {
+            Page<Task> taskPage = taskRepository.findBy(specification,
+                    query -> query.project("project").page(sortedPageable));
+            return PagedResponse.of(taskPage);
+        }
+
+        Slice<Task> taskSlice = taskRepository.findBy(specification,
+                query -> query.project("project").slice(sortedPageable));
+        return PagedResponse.of(taskSlice);
+    }
+
+    @Override
+    @Transactional
+    public int bulkUpdateTasks(String ownerId, TaskBulkUpdateRequestDto bulkUpdate) {
+        boolean hasTaskIds = bulkUpdate.getTaskIds() != null && !bulkUpdate.getTaskIds().isEmpty();
+        if (!hasTaskIds && !StringUtils.hasText(bulkUpdate.getProjectId()) && bulkUpdate.getStatus() == null)
+            throw new IllegalArgumentException("Select tasks by taskIds, projectId or status");
+        if (bulkUpdate.getTargetStatus() == null && !StringUtils.hasText(bulkUpdate.getTargetProjectId()))
+            throw new IllegalArgumentException("Set a targetStatus or a targetProjectId");
+
+        // The owner filter is always part of the WHERE clause, so foreign ids are simply not matched
+        List<Specification<Task>> specifications = new ArrayList<>();
+        specifications.add(TaskSpecifications.ownedBy(ownerId));
+        if (hasTaskIds)
+            specifications.add(TaskSpecifications.idIn(bulkUpdate.getTaskIds().stream().map(UUID::fromString).toList()));
+        if (StringUtils.hasText(bulkUpdate.getProjectId()))
+            specifications.add(TaskSpecifications.inProject(UUID.fromString(bulkUpdate.getProjectId())));
+        if (bulkUpdate.getStatus() != null)
+            specifications.add(TaskSpecifications.hasStatusIn(List.of(bulkUpdate.getStatus())));
+
+        // Moving tasks needs a target project of the same owner, so owner_cognito_id stays correct
+        Project targetProject = StringUtils.hasText(bulkUpdate.getTargetProjectId())
+                ? projectService.getProjectReference(ownerId, bulkUpdate.getTargetProjectId())
+                : null;
+
+        return taskRepository.bulkUpdate(Specification.allOf(specifications), bulkUpdate.getTargetStatus(), targetProject);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult> createTasks(String ownerId, List<TaskRequestDto> taskRequests) {
+        if (taskRequests.isEmpty() || taskRequests.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks");
+
+        BatchItemResult[] results = new BatchItemResult[taskRequests.size()];
+
+        // 1. Validate every item on its own, keeping the parsed project id of the valid ones
+        Map<Integer, UUID> projectIdsByIndex = new LinkedHashMap<>();
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequestDto taskRequest = taskRequests.get(i);
+            String violations = validate(taskRequest);
+            if (violations != null) {
+                results[i] = BatchItemResult.failed(i, ErrorCode.VALIDATION_ERROR, violations);
+                continue;
+            }
+            try {
+                projectIdsByIndex.put(i, UUID.fromString(taskRequest.getProjectId()));
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchItemResult.failed(i, ErrorCode.INVALID_UUID_FORMAT,
+                        "Invalid project id: " + taskRequest.getProjectId());
+            }
+        }
+
+        // 2. One query checks every distinct project at once
+        Map<UUID, Project> projectsById = projectService.getProjectsById(ownerId, Set.copyOf(projectIdsByIndex.values()));
+
+        List<Integer> taskIndexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        projectIdsByIndex.forEach((index, projectId) -> {
+            Project project = projectsById.get(projectId);
+            if (project == null) {
+                results[index] = BatchItemResult.failed(index, ErrorCode.PROJECT_NOT_FOUND,
+                        "Project not found with id: " + projectId);
+                return;
+            }
+            Task task = taskMapper.toEntity(taskRequests.get(index));
+            if (task.getStatus() == null)
+                task.setStatus(TaskStatus.TODO);
+            task.setProject(project);
+            task.setOwnerId(ownerId);
+            taskIndexes.add(index);
+            tasks.add(task);
+        });
+
+        // 3. Ids are generated in memory (UUID), so Hibernate can send the inserts as JDBC batches
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        for (int i = 0; i < savedTasks.size(); i++)
+            results[taskIndexes.get(i)] = BatchItemResult.created(taskIndexes.get(i), savedTasks.get(i));
+
+        return List.of(results);
+    }
+
     @Override
     public Task createTask(String ownerId, String projectId, Task task) {
-        // 1. Validate project exists and belongs to user
+        // 1. Validate project exists and belongs to user. The response shows the project's name and version,
+        // so the project itself is loaded; hot projects come from the second-level cache, not the database
         Project project = projectService.getProjectById(ownerId, projectId);
         task.setProject(project);
+        task.setOwnerId(ownerId);
 
         return taskRepository.save(task);
     }
 
     @Override
     public Task updateTask(String ownerId, String taskId, Task task){
+        return updateTask(ownerId, taskId, task, null);
+    }
+
+    @Override
+    public Task updateTask(String ownerId, String taskId, Task task, Long expectedVersion) {
 
         Optional<Task> existingTask = Optional.ofNullable(getTaskById(ownerId, taskId));
         if (existingTask.isEmpty())
             throw new TaskNotFoundException("Task not found with id: " + taskId);
 
         Task existing = existingTask.get();
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion()))
+            throw new PreconditionFailedException("Task " + taskId + " was modified, current ETag is "
+                    + ETagUtils.of(existing.getVersion()));
+
         existing.setName(task.getName());
         existing.setDescription(task.getDescription());
         existing.setStatus(task.getStatus());
         return taskRepository.save(existing);
     }
 
+    @Override
+    public long patchTask(String ownerId, String taskId, long expectedVersion, Map<String, Object> patch) {
+        UUID taskUuid = UUID.fromString(taskId);
+        Map<String, Object> changes = toTaskChanges(patch);
+
+        if (versionedUpdateRepository.updateIfVersionMatches(Task.class, taskUuid, ownerId, expectedVersion, changes) == 1)
+            return expectedVersion + 1;
+
+        // Only the failure path reads: tell a missing task from a stale ETag
+        if (!taskRepository.existsByIdAndOwnerId(taskUuid, ownerId))
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
+        throw new PreconditionFailedException("Task " + taskId + " was modified, ETag "
+                + ETagUtils.of(expectedVersion) + " is stale");
+    }
+
     @Override
     public void deleteTask(String ownerId, String taskId) {
-        Task task = getTaskById(ownerId, taskId);
-        taskRepository.delete(task);
+        UUID taskUuid = UUID.fromString(taskId);
+
+        // One owner-scoped DELETE, nothing is loaded first - the row count tells whether the task existed
+        if (taskRepository.deleteByIdAndOwnerId(taskUuid, ownerId) == 0)
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
     }
 
     @Override
@@ -87,4 +314,131 @@ public class TaskServiceImpl implements TaskService {
         return task.get();
     }
 
+    @Override
+    public TaskRevision getTaskRevision(String ownerId, String taskId) {
+        UUID taskUuid = UUID.fromString(taskId);
+        return taskRepository.findRevisionByIdAndOwnerId(taskUuid, ownerId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+    }
+
+    // Fetch one extra row so we know whether another page exists without a count query
+    private Limit keysetLimit(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("Page size must not be less than one");
+
+        return Limit.of(size + 1);
+    }
+
+    private PagedResponse<Task> toKeysetPage(List<Task> tasks, int size, boolean first) {
+        if (tasks.size() <= size)
+            return PagedResponse.ofKeyset(tasks, size, first, null);
+
+        List<Task> content = tasks.subList(0, size);
+        Task last = content.get(size - 1);
+        return PagedResponse.ofKeyset(content, size, first, CursorUtils.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    // Same limits as TaskRequestDto; a null member clears the field, which only description allows
+    private Map<String, Object> toTaskChanges(Map<String, Object> patch) {
+        if (patch.isEmpty())
+            throw new IllegalArgumentException("Patch contains no changes");
+
+        Map<String, Object> changes = new HashMap<>();
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "name" -> changes.put(field, MergePatchUtils.requireText(field, value, 255));
+                case "description" -> changes.put(field, MergePatchUtils.optionalText(field, value, 255));
+                case "status" -> changes.put(field, MergePatchUtils.requireEnum(field, value, TaskStatus.class));
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+        });
+        return changes;
+    }
+
+    private String validate(TaskRequestDto taskRequest) {
+        if (taskRequest == null)
+            return "Task must not be null";
+
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(taskRequest);
+        if (violations.isEmpty())
+            return null;
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // Detaching after each row keeps the persistence context from growing with the result
+    private void forEachDetached(Stream<Task> tasks, Consumer<Task> action) {
+        tasks.forEach(task -> {
+            action.accept(task);
+            entityManager.detach(task);
+        });
+    }
+
+    // Ranked ids come from the full-text fragment, then only that page of tasks is loaded
+    private PagedResponse<Task> fullTextSearch(String ownerId, TaskSearchRequestDto criteria, Pageable pageable, boolean count) {
+        Sort sort = StringUtils.hasText(criteria.getSort()) ? resolveSearchSort(criteria.getSort()) : Sort.unsorted();
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+
+        if (count) {
+            Page<UUID> idPage = taskRepository.searchIds(ownerId, criteria, sortedPageable);
+            Map<UUID, Task> tasksById = findTasksById(idPage.getContent());
+            return PagedResponse.of(idPage.map(tasksById::get));
+        }
+
+        Slice<UUID> idSlice = taskRepository.searchIdsSliced(ownerId, criteria, sortedPageable);
+        Map<UUID, Task> tasksById = findTasksById(idSlice.getContent());
+        return PagedResponse.of(idSlice.map(tasksById::get));
+    }
+
+    private Map<UUID, Task> findTasksById(List<UUID> ids) {
+        if (ids.isEmpty())
+            return Map.of();
+
+        return taskRepository.findAllWithProjectByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Specification<Task> toSpecification(String ownerId, TaskSearchRequestDto criteria) {
+        List<Specification<Task>> specifications = new ArrayList<>();
+        specifications.add(TaskSpecifications.ownedBy(ownerId));
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty())
+            specifications.add(TaskSpecifications.hasStatusIn(criteria.getStatus()));
+        if (StringUtils.hasText(criteria.getProjectId()))
+            specifications.add(TaskSpecifications.inProject(UUID.fromString(criteria.getProjectId())));
+        if (StringUtils.hasText(criteria.getNamePrefix()))
+            specifications.add(TaskSpecifications.nameStartsWith(criteria.getNamePrefix()));
+        if (criteria.getCreatedFrom() != null)
+            specifications.add(TaskSpecifications.createdFrom(criteria.getCreatedFrom()));
+        if (criteria.getCreatedTo() != null)
+            specifications.add(TaskSpecifications.createdBefore(criteria.getCreatedTo()));
+        if (criteria.getUpdatedFrom() != null)
+            specifications.add(TaskSpecifications.updatedFrom(criteria.getUpdatedFrom()));
+        if (criteria.getUpdatedTo() != null)
+            specifications.add(TaskSpecifications.updatedBefore(criteria.getUpdatedTo()));
+
+        return Specification.allOf(specifications);
+    }
+
+    // Only whitelisted properties are sortable; id breaks ties so pages are stable
+    private Sort resolveSearchSort(String sort) {
+        if (!StringUtils.hasText(sort))
+            return Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (parts.length > 2 || !SEARCH_SORT_PROPERTIES.contains(property))
+            throw new IllegalArgumentException("Unsupported sort: " + sort
+                    + ". Sortable properties are " + SEARCH_SORT_PROPERTIES);
+
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromString(parts[1].trim())
+                : Sort.Direction.ASC;
+        return Sort.by(direction, property, "id");
+    }
+
 }
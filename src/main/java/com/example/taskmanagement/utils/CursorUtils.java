@@ -0,0 +1,42 @@
+package com.example.taskmanagement.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the opaque keyset cursors handed out by paginated endpoints.
+ * A cursor points at the last row of a page as its (createdAt, id) sort key.
+ */
+@UtilityClass
+public class CursorUtils {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public record Cursor(LocalDateTime createdAt, UUID id) {
+    }
+}
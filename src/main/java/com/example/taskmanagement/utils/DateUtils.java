@@ -25,4 +25,12 @@ public class DateUtils {
         }
         return LOCAL_FORMATTER.format(localDateTime);
     }
+
+    // Entity timestamps are LocalDateTime.now(), i.e. in the system zone; -1 when there is none
+    public static long toEpochMilli(LocalDateTime localDateTime) {
+        if (localDateTime == null) {
+            return -1;
+        }
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
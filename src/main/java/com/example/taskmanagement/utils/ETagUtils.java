@@ -0,0 +1,82 @@
+package com.example.taskmanagement.utils;
+
+import com.example.taskmanagement.exceptions.PreconditionRequiredException;
+import com.example.taskmanagement.model.projection.ChangeStamp;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Entity versions as strong ETags ("3") and back. The URL already identifies the resource,
+ * so the version alone is enough to tell representations apart. Representations that embed
+ * another row get its version as a suffix ("3.7"); If-Match only compares the leading version.
+ */
+@UtilityClass
+public class ETagUtils {
+
+    private static final String ANY = "*";
+
+    // Clients may keep a copy, but must revalidate it with If-None-Match before using it
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(long version, long embeddedVersion) {
+        return "\"" + version + "." + embeddedVersion + "\"";
+    }
+
+    // List validator; never a valid If-Match value
+    public static String of(ChangeStamp... stamps) {
+        return Arrays.stream(stamps)
+                .map(stamp -> stamp.count() + "-" + DateUtils.toEpochMilli(stamp.lastUpdated()))
+                .collect(Collectors.joining(".", "\"", "\""));
+    }
+
+    // 200 that can be revalidated with the given list validator, or a plain 200 when none was computed
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        if (eTag == null)
+            return ResponseEntity.ok();
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(eTag);
+    }
+
+    public static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
+                .build();
+    }
+
+    // Version from an optional If-Match header; null when absent or "*" (any version matches)
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY))
+            return null;
+
+        String value = ifMatch.trim();
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\""))
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+
+        String tag = value.substring(1, value.length() - 1);
+        int embeddedStart = tag.indexOf('.');
+        try {
+            return Long.parseLong(embeddedStart < 0 ? tag : tag.substring(0, embeddedStart));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch, e);
+        }
+    }
+
+    // Conditional writes (PATCH) only run against a known version
+    public static long requireIfMatch(String ifMatch) {
+        Long version = parseIfMatch(ifMatch);
+        if (version == null)
+            throw new PreconditionRequiredException("If-Match header with the current ETag is required");
+        return version;
+    }
+}
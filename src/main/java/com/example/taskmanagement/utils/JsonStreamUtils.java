@@ -0,0 +1,70 @@
+package com.example.taskmanagement.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes JSON element by element - as an array or as newline-delimited JSON -
+ * so a response never holds the whole list in memory.
+ */
+@UtilityClass
+public class JsonStreamUtils {
+
+    /**
+     * Opens the array, hands the producer a sink for the elements, then closes the array.
+     * The array is only closed when the producer finishes: if it fails, the client gets an unterminated
+     * array rather than a well-formed one that silently misses elements.
+     * The output stream is left open for the servlet container to close.
+     */
+    public static <T> void writeArray(ObjectMapper objectMapper, OutputStream out,
+                                      Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            generator.writeStartArray();
+            try {
+                producer.accept(element -> {
+                    try {
+                        generator.writeObject(element);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes every element as one JSON document followed by a newline (NDJSON).
+     * The output stream is left open for the caller to finish or close.
+     */
+    public static <T> void writeLines(ObjectMapper objectMapper, OutputStream out,
+                                      Consumer<Consumer<T>> producer) throws IOException {
+        // Root values are separated by the newline alone, not Jackson's default space
+        try (JsonGenerator generator = objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            try {
+                producer.accept(element -> {
+                    try {
+                        generator.writeObject(element);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
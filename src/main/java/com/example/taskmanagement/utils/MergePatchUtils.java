@@ -0,0 +1,40 @@
+package com.example.taskmanagement.utils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Checks single members of a JSON merge patch (RFC 7396). A member set to null clears the field,
+ * so only nullable fields may use {@link #optionalText}.
+ */
+@UtilityClass
+public class MergePatchUtils {
+
+    public static String requireText(String field, Object value, int maxLength) {
+        if (!(value instanceof String text) || text.isBlank())
+            throw new IllegalArgumentException(field + " must be a non-empty string");
+        return checkLength(field, text, maxLength);
+    }
+
+    public static String optionalText(String field, Object value, int maxLength) {
+        if (value == null)
+            return null;
+        if (!(value instanceof String text))
+            throw new IllegalArgumentException(field + " must be a string or null");
+        return checkLength(field, text, maxLength);
+    }
+
+    public static <E extends Enum<E>> E requireEnum(String field, Object value, Class<E> type) {
+        String text = requireText(field, value, Integer.MAX_VALUE);
+        try {
+            return Enum.valueOf(type, text);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + text);
+        }
+    }
+
+    private static String checkLength(String field, String text, int maxLength) {
+        if (text.length() > maxLength)
+            throw new IllegalArgumentException(field + " must be at most " + maxLength + " characters");
+        return text;
+    }
+}
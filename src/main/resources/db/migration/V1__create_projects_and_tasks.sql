@@ -0,0 +1,36 @@
+-- Initial schema. IF NOT EXISTS lets Flyway adopt databases previously created by ddl-auto=update.
+
+CREATE TABLE IF NOT EXISTS projects (
+    id               UUID         NOT NULL,
+    name             VARCHAR(255) NOT NULL,
+    description      VARCHAR(255),
+    owner_cognito_id VARCHAR(255) NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT pk_projects PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          UUID         NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    status      VARCHAR(255) NOT NULL,
+    project_id  UUID         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT ck_tasks_status CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE'))
+);
+
+-- ProjectRepository: WHERE owner_cognito_id = ? ORDER BY created_at, id (list, id paging, count)
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created_at_id ON projects (owner_cognito_id, created_at, id);
+
+-- Open task counts per project: GROUP BY project with a status filter
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status ON tasks (project_id, status);
+
+-- TaskRepository: project scoped lists and keyset pages ordered by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created_at_id ON tasks (project_id, created_at, id);
+
+-- TaskRepository: owner wide keyset pages walk tasks in (created_at, id) order
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at, id);
@@ -0,0 +1,15 @@
+-- Denormalize the project owner onto tasks so owner scoped task queries don't need the projects join.
+-- A task never changes owner: it can only move between projects of the same owner.
+
+ALTER TABLE tasks ADD COLUMN owner_cognito_id VARCHAR(255);
+
+UPDATE tasks
+SET owner_cognito_id = (SELECT p.owner_cognito_id FROM projects p WHERE p.id = tasks.project_id);
+
+ALTER TABLE tasks ALTER COLUMN owner_cognito_id SET NOT NULL;
+
+-- Owner wide lists, counts and keyset pages ordered by (created_at, id)
+CREATE INDEX idx_tasks_owner_created_at_id ON tasks (owner_cognito_id, created_at, id);
+
+-- Superseded by the owner-first index above
+DROP INDEX IF EXISTS idx_tasks_created_at_id;
@@ -0,0 +1,8 @@
+-- GET /api/tasks/search. Every search is owner scoped, so the owner id leads each index.
+-- Created ranges use idx_tasks_owner_created_at_id and project filters use idx_tasks_project_created_at_id.
+
+-- Status filters, optionally narrowed by an updated range ("IN_PROGRESS tasks updated this week")
+CREATE INDEX idx_tasks_owner_status_updated_at ON tasks (owner_cognito_id, status, updated_at);
+
+-- Updated ranges without a status filter
+CREATE INDEX idx_tasks_owner_updated_at ON tasks (owner_cognito_id, updated_at);
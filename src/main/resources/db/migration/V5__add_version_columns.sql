@@ -0,0 +1,4 @@
+-- Optimistic locking (@Version) for tasks and projects. The version is exposed as the ETag,
+-- and conditional updates run as UPDATE ... WHERE id = ? AND version = ?
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
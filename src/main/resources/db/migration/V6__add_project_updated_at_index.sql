@@ -0,0 +1,3 @@
+-- Conditional GETs on list endpoints read COUNT(*) and MAX(updated_at) per owner.
+-- Tasks are covered by idx_tasks_owner_updated_at (V3).
+CREATE INDEX idx_projects_owner_updated_at ON projects (owner_cognito_id, updated_at);
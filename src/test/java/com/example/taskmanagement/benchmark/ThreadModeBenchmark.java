@@ -0,0 +1,176 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.config.TestSecurityConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Starts the application and drives it over HTTP with a fixed load: half the requests list users from a stub
+ * Cognito that answers after 20ms, half list projects from a pool of 20 connections, as in
+ * application-example.properties. Throughput and latency percentiles are logged for comparison; only errors
+ * fail the run. Each mode is its own test class, and the benchmark profile starts a JVM per class, so neither
+ * mode runs on code the JIT compiled during the other. Excluded from the normal build, run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Import(TestSecurityConfig.class)
+abstract class ThreadModeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeBenchmark.class);
+
+    private static final int CLIENTS = 1000;
+    private static final int WARM_UP_REQUESTS = 5_000;
+    private static final int REQUESTS = 20_000;
+    private static final long COGNITO_LATENCY_MILLIS = 20;
+
+    private static final String LIST_USERS_RESPONSE = """
+            {"Users":[{"Username":"user-1","Enabled":true,"UserStatus":"CONFIRMED","UserCreateDate":1735725600,
+            "Attributes":[{"Name":"sub","Value":"sub-1"},{"Name":"email","Value":"user-1@example.com"}]}]}""";
+
+    private static final HttpServer cognito = startCognitoStub();
+
+    private final String mode;
+
+    @LocalServerPort
+    private int port;
+
+    ThreadModeBenchmark(String mode) {
+        this.mode = mode;
+    }
+
+    @AfterAll
+    static void stopCognitoStub() {
+        cognito.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void cognitoEndpoint(DynamicPropertyRegistry registry) {
+        registry.add("aws.cognito.endpoint", () -> "http://localhost:" + cognito.getAddress().getPort());
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> 20);
+        registry.add("spring.datasource.hikari.minimum-idle", () -> 20);
+        registry.add("spring.datasource.hikari.connection-timeout", () -> 3000);
+    }
+
+    @Test
+    void serveMixedLoad_WithoutErrors() throws InterruptedException {
+        // Given
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            run(client, WARM_UP_REQUESTS);
+
+            // When
+            Result result = run(client, REQUESTS);
+
+            // Then
+            log.info("{}: {} req/s, users p50 {} ms p99 {} ms, projects p50 {} ms p99 {} ms, {} errors", mode,
+                    String.format("%.0f", result.throughput()),
+                    String.format("%.1f", result.users().p50Millis()), String.format("%.1f", result.users().p99Millis()),
+                    String.format("%.1f", result.projects().p50Millis()), String.format("%.1f", result.projects().p99Millis()),
+                    result.errors());
+            assertThat(result.errors()).isZero();
+        }
+    }
+
+    // CLIENTS requests are in flight at any time, alternating between users and projects. The client runs on
+    // platform threads, so in virtual mode it does not queue behind the app's request threads
+    private Result run(HttpClient client, int requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            client.sendAsync(request(i % 2 == 0 ? "/api/users?after=&size=60" : "/api/projects?count=true"),
+                    HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latencies[index] = System.nanoTime() - sent;
+                if (failure != null || response.statusCode() != 200)
+                    errors.incrementAndGet();
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(requests * 1_000_000_000.0 / elapsed,
+                Percentiles.of(latencies, 0), Percentiles.of(latencies, 1), errors.get());
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer benchmark")
+                .GET()
+                .build();
+    }
+
+    private record Result(double throughput, Percentiles users, Percentiles projects, int errors) {
+    }
+
+    private record Percentiles(double p50Millis, double p99Millis) {
+
+        // Every other latency, starting at offset
+        static Percentiles of(long[] latencies, int offset) {
+            long[] sorted = IntStream.range(0, latencies.length / 2).mapToLong(i -> latencies[2 * i + offset]).sorted().toArray();
+            return new Percentiles(sorted[sorted.length / 2] / 1_000_000.0,
+                    sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000.0);
+        }
+    }
+
+    // Answers every ListUsers call after a fixed delay, on platform threads so that in virtual mode its latency
+    // does not depend on the app's scheduler
+    private static HttpServer startCognitoStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CLIENTS);
+            server.createContext("/", ThreadModeBenchmark::answerListUsers);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void answerListUsers(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(COGNITO_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = LIST_USERS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
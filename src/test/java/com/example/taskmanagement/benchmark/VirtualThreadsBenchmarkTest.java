@@ -0,0 +1,13 @@
+package com.example.taskmanagement.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsBenchmarkTest extends ThreadModeBenchmark {
+
+    VirtualThreadsBenchmarkTest() {
+        super("virtual");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+class AsyncConfigTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Autowired
+    @Qualifier("projectDeletionExecutor")
+    private ThreadPoolTaskExecutor projectDeletionExecutor;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void streamedResponses_ShouldRunOnUnthrottledApplicationTaskExecutor() {
+        // Then
+        assertThat(applicationTaskExecutor).isInstanceOfSatisfying(SimpleAsyncTaskExecutor.class,
+                executor -> assertThat(executor.isThrottleActive()).isFalse());
+        assertThat(ReflectionTestUtils.getField(handlerAdapter, "taskExecutor")).isSameAs(applicationTaskExecutor);
+    }
+
+    @Test
+    void projectDeletionExecutor_ShouldBeBoundedSeparately() {
+        // Then
+        assertThat(projectDeletionExecutor.getMaxPoolSize()).isEqualTo(4);
+        assertThat(projectDeletionExecutor).isNotSameAs(applicationTaskExecutor);
+    }
+}
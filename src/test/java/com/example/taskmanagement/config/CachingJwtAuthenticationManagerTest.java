@@ -0,0 +1,181 @@
+package com.example.taskmanagement.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtAuthenticationManagerTest {
+
+    @Mock
+    private AuthenticationManager delegate;
+
+    private CachingJwtAuthenticationManager jwtAuthenticationManager;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2025-01-01T10:00:00Z");
+        jwtAuthenticationManager = new CachingJwtAuthenticationManager(delegate, 100, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void authenticate_ShouldVerifyOnce_WhenSameTokenIsReused() {
+        // Given
+        when(delegate.authenticate(any())).thenReturn(verified("token-1", now.plusSeconds(3600)));
+
+        // When
+        Authentication first = jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        Authentication second = jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+
+        // Then
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(second).isInstanceOf(JwtAuthenticationToken.class).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("user-123");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_admins");
+        assertThat(jwtAuthenticationManager.stats().hitCount()).isEqualTo(1);
+        assertThat(jwtAuthenticationManager.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticate_ShouldVerifyOnce_WhenRequestsArriveTogether() throws Exception {
+        // Given - the first verification is still running when the second request arrives
+        CountDownLatch verifying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            verifying.countDown();
+            release.await();
+            return verified("token-1", now.plusSeconds(3600));
+        });
+
+        // When
+        Authentication first;
+        Authentication second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Authentication> firstRequest = executor.submit(
+                    () -> jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1")));
+            verifying.await();
+            Future<Authentication> secondRequest = executor.submit(
+                    () -> jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1")));
+            Thread.sleep(50);
+            release.countDown();
+            first = firstRequest.get();
+            second = secondRequest.get();
+        }
+
+        // Then
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(first.getName()).isEqualTo("user-123");
+        assertThat(second.getName()).isEqualTo("user-123");
+    }
+
+    @Test
+    void authenticate_ShouldKeepDetailsOfEachRequest() {
+        // Given
+        when(delegate.authenticate(any())).thenReturn(verified("token-1", now.plusSeconds(3600)));
+        BearerTokenAuthenticationToken firstRequest = new BearerTokenAuthenticationToken("token-1");
+        firstRequest.setDetails("10.0.0.1");
+        BearerTokenAuthenticationToken secondRequest = new BearerTokenAuthenticationToken("token-1");
+        secondRequest.setDetails("10.0.0.2");
+
+        // When
+        jwtAuthenticationManager.authenticate(firstRequest);
+        Authentication result = jwtAuthenticationManager.authenticate(secondRequest);
+
+        // Then
+        assertThat(result.getDetails()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void authenticate_ShouldVerifyAgain_WhenTokenHasExpired() {
+        // Given - accepted by the delegate within its clock skew, but already past exp
+        when(delegate.authenticate(any())).thenReturn(verified("token-1", now.minusSeconds(30)));
+
+        // When
+        jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+
+        // Then
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldNotCacheRejectedTokens() {
+        // Given
+        when(delegate.authenticate(any())).thenThrow(new InvalidBearerTokenException("bad signature"));
+
+        // When & Then
+        for (int i = 0; i < 2; i++)
+            assertThatThrownBy(() -> jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("forged")))
+                    .isInstanceOf(InvalidBearerTokenException.class);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldVerifyAgain_AfterVerificationFailedWithError() {
+        // Given
+        when(delegate.authenticate(any()))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(verified("token-1", now.plusSeconds(3600)));
+        assertThatThrownBy(() -> jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1")))
+                .isInstanceOf(StackOverflowError.class);
+
+        // When - a future left pending would block here
+        Authentication result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1")));
+
+        // Then
+        assertThat(result.getName()).isEqualTo("user-123");
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldKeepTokensApart() {
+        // Given
+        when(delegate.authenticate(any())).thenAnswer(invocation -> verified(
+                invocation.<BearerTokenAuthenticationToken>getArgument(0).getToken(), now.plusSeconds(3600)));
+
+        // When
+        jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        Authentication result = jwtAuthenticationManager.authenticate(new BearerTokenAuthenticationToken("token-2"));
+
+        // Then
+        assertThat(((JwtAuthenticationToken) result).getToken().getTokenValue()).isEqualTo("token-2");
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private JwtAuthenticationToken verified(String tokenValue, Instant expiresAt) {
+        Jwt jwt = Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("user-123")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_admins")), "user-123");
+    }
+}
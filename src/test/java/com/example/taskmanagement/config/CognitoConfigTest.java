@@ -0,0 +1,159 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.exceptions.handler.GlobalExceptionHandler;
+import com.example.taskmanagement.model.dto.ErrorDto;
+import com.example.taskmanagement.services.CognitoService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminInitiateAuthResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.NotAuthorizedException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Runs the real async client against a local stub of the Cognito JSON API. The call timeout leaves room for
+// the first request, which also loads the SDK
+class CognitoConfigTest {
+
+    private HttpServer stub;
+    private final AtomicReference<StubResponse> stubResponse = new AtomicReference<>();
+    private CognitoConfig cognitoConfig;
+    private CognitoIdentityProviderAsyncClient asyncClient;
+    private CognitoService cognitoService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/", this::answer);
+        stub.start();
+
+        cognitoConfig = new CognitoConfig();
+        ReflectionTestUtils.setField(cognitoConfig, "accessKeyId", "test-access-key");
+        ReflectionTestUtils.setField(cognitoConfig, "secretAccessKey", "test-secret-key");
+        ReflectionTestUtils.setField(cognitoConfig, "endpoint", "http://localhost:" + stub.getAddress().getPort());
+        ReflectionTestUtils.setField(cognitoConfig, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(cognitoConfig, "connectionAcquisitionTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(cognitoConfig, "connectionTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(cognitoConfig, "readTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(cognitoConfig, "apiCallTimeout", Duration.ofSeconds(2));
+        startClient();
+    }
+
+    private void startClient() {
+        asyncClient = cognitoConfig.cognitoIdentityProviderAsyncClient();
+
+        cognitoService = new CognitoService(null, asyncClient);
+        ReflectionTestUtils.setField(cognitoService, "userPoolId", "pool-1");
+        ReflectionTestUtils.setField(cognitoService, "clientId", "client-1");
+        ReflectionTestUtils.setField(cognitoService, "clientSecret", "client-secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncClient.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void asyncClient_ShouldCallConfiguredEndpoint() {
+        // Given
+        stubResponse.set(new StubResponse(200, null, "{\"AuthenticationResult\":{\"IdToken\":\"id-token\"}}", 0));
+
+        // When
+        AdminInitiateAuthResponse response = cognitoService.authenticateUser("ann", "secret").join();
+
+        // Then
+        assertThat(response.authenticationResult().idToken()).isEqualTo("id-token");
+    }
+
+    @Test
+    void asyncClient_ShouldFailWithCognitoError() {
+        // Given
+        stubResponse.set(new StubResponse(400, "NotAuthorizedException",
+                "{\"__type\":\"NotAuthorizedException\",\"message\":\"Incorrect username or password.\"}", 0));
+
+        // When
+        CompletableFuture<AdminInitiateAuthResponse> response = cognitoService.authenticateUser("ann", "wrong");
+
+        // Then
+        assertThatThrownBy(response::join).hasCauseInstanceOf(NotAuthorizedException.class);
+    }
+
+    @Test
+    void asyncClient_ShouldGiveUp_AfterApiCallTimeout() {
+        // Given
+        stubResponse.set(new StubResponse(200, null, "{}", 3000));
+
+        // When
+        CompletableFuture<AdminInitiateAuthResponse> response = cognitoService.authenticateUser("ann", "secret");
+
+        // Then
+        assertThatThrownBy(response::join).hasCauseInstanceOf(ApiCallTimeoutException.class);
+    }
+
+    @Test
+    void asyncClient_ShouldFailWithGatewayTimeout_AfterReadTimeout() {
+        // Given - every attempt hits the read timeout long before the call timeout
+        asyncClient.close();
+        ReflectionTestUtils.setField(cognitoConfig, "readTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(cognitoConfig, "apiCallTimeout", Duration.ofSeconds(10));
+        startClient();
+        stubResponse.set(new StubResponse(200, null, "{}", 600));
+
+        // When
+        CompletableFuture<AdminInitiateAuthResponse> response = cognitoService.authenticateUser("ann", "secret");
+
+        // Then - a plain SdkClientException, which the handler still answers with 504
+        Throwable failure = catchThrowable(response::join).getCause();
+        assertThat(failure).isExactlyInstanceOf(SdkClientException.class)
+                .hasRootCauseInstanceOf(ReadTimeoutException.class);
+        ResponseEntity<ErrorDto> mapped = new GlobalExceptionHandler().handleExternalServiceTimeout(
+                (SdkClientException) failure, new MockHttpServletRequest("POST", "/api/auth/signin"));
+        assertThat(mapped.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(mapped.getBody().errorCode()).isEqualTo("EXTERNAL_SERVICE_TIMEOUT");
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        StubResponse response = stubResponse.get();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(response.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+        if (response.errorType() != null)
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", response.errorType());
+        exchange.getResponseHeaders().add("x-amzn-RequestId", "request-1");
+        try {
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // The client already gave up
+        }
+    }
+
+    private record StubResponse(int status, String errorType, String body, long delayMillis) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private FilterChain chain;
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1);
+
+    @Test
+    void doFilter_ShouldHoldRequest_UntilRunningRequestReturns() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch firstMayReturn = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstStarted.countDown();
+            firstMayReturn.await();
+            return null;
+        }).doNothing().when(chain).doFilter(any(), any());
+        CompletableFuture<Void> first = CompletableFuture.runAsync(this::filterRequest);
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<Void> second = CompletableFuture.runAsync(this::filterRequest);
+
+        // Then
+        assertThatThrownBy(() -> second.get(100, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+        firstMayReturn.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldReleasePermit_WhenChainFails() throws Exception {
+        // Given
+        doThrow(new IOException("client went away")).doNothing().when(chain).doFilter(any(), any());
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain))
+                .hasMessage("client went away");
+
+        // When
+        CompletableFuture<Void> next = CompletableFuture.runAsync(this::filterRequest);
+
+        // Then
+        next.get(5, TimeUnit.SECONDS);
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    private void filterRequest() {
+        try {
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanagement.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitedHttpClientTest {
+
+    @Mock
+    private SdkHttpClient delegate;
+
+    @Mock
+    private ExecutableHttpRequest delegateCall;
+
+    private ConnectionLimitedHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.prepareRequest(any())).thenReturn(delegateCall);
+        httpClient = new ConnectionLimitedHttpClient(delegate, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void call_ShouldWaitForPermit_UntilPreviousBodyIsClosed() throws IOException {
+        // Given
+        when(delegateCall.call()).thenAnswer(invocation -> responseWithBody());
+        InputStream body = httpClient.prepareRequest(request()).call().responseBody().orElseThrow();
+
+        // When & Then
+        assertThatThrownBy(() -> httpClient.prepareRequest(request()).call())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Timeout waiting");
+        body.close();
+        assertThat(httpClient.prepareRequest(request()).call().httpResponse().statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void call_ShouldReleasePermit_WhenDelegateFails() throws IOException {
+        // Given
+        when(delegateCall.call())
+                .thenThrow(new IOException("connection refused"))
+                .thenAnswer(invocation -> responseWithBody());
+
+        // When
+        assertThatThrownBy(() -> httpClient.prepareRequest(request()).call()).hasMessage("connection refused");
+
+        // Then
+        assertThat(httpClient.prepareRequest(request()).call().responseBody()).isPresent();
+    }
+
+    @Test
+    void call_ShouldReleaseOnePermit_WhenBodyIsClosedTwice() throws IOException {
+        // Given
+        httpClient = new ConnectionLimitedHttpClient(delegate, 2, Duration.ofMillis(50));
+        when(delegateCall.call()).thenAnswer(invocation -> responseWithBody());
+        InputStream first = httpClient.prepareRequest(request()).call().responseBody().orElseThrow();
+        first.close();
+        first.close();
+
+        // When
+        httpClient.prepareRequest(request()).call();
+        httpClient.prepareRequest(request()).call();
+
+        // Then - both permits are taken again, a closed body did not add a third
+        assertThatThrownBy(() -> httpClient.prepareRequest(request()).call()).isInstanceOf(IOException.class);
+    }
+
+    private static HttpExecuteRequest request() {
+        return HttpExecuteRequest.builder()
+                .request(SdkHttpRequest.builder().method(SdkHttpMethod.POST).uri(URI.create("http://localhost")).build())
+                .build();
+    }
+
+    private static HttpExecuteResponse responseWithBody() {
+        return HttpExecuteResponse.builder()
+                .response(SdkHttpResponse.builder().statusCode(200).build())
+                .responseBody(AbortableInputStream.create(new ByteArrayInputStream("{}".getBytes())))
+                .build();
+    }
+}
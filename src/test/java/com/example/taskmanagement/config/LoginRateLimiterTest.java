@@ -0,0 +1,143 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginRateLimiterTest {
+
+    @Mock
+    private Clock clock;
+
+    private Instant now;
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2025-01-01T10:00:00Z");
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        // 3 attempts per identity and 5 per IP each minute, 10 per second in total
+        loginRateLimiter = new LoginRateLimiter(
+                new LoginRateLimiter.Limit(3, Duration.ofMinutes(1)),
+                new LoginRateLimiter.Limit(5, Duration.ofMinutes(1)),
+                new LoginRateLimiter.Limit(10, Duration.ofSeconds(1)),
+                65536, clock);
+    }
+
+    @Test
+    void acquire_ShouldRejectIdentity_AfterBurstWithRetryAfter() {
+        // Given
+        for (int i = 0; i < 3; i++)
+            loginRateLimiter.acquire("ann@example.com", "10.0.0." + i);
+
+        // When & Then - the next token is due 20 seconds after the first attempt
+        assertThatThrownBy(() -> loginRateLimiter.acquire("ann@example.com", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void acquire_ShouldAllowIdentityAgain_OnceTokenIsRefilled() {
+        // Given
+        for (int i = 0; i < 3; i++)
+            loginRateLimiter.acquire("ann@example.com", "10.0.0." + i);
+
+        // When
+        now = now.plusSeconds(20);
+
+        // Then
+        assertThatCode(() -> loginRateLimiter.acquire("ann@example.com", "10.0.0.9")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> loginRateLimiter.acquire("ann@example.com", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void acquire_ShouldTreatIdentityCaseInsensitively() {
+        // Given
+        for (int i = 0; i < 3; i++)
+            loginRateLimiter.acquire("ann@example.com", "10.0.0." + i);
+
+        // When & Then
+        assertThatThrownBy(() -> loginRateLimiter.acquire(" Ann@Example.com", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void acquire_ShouldRejectClientIp_AcrossIdentities_WithoutSpendingIdentityTokens() {
+        // Given
+        for (int i = 0; i < 5; i++)
+            loginRateLimiter.acquire("user-" + i, "10.0.0.1");
+
+        // When & Then - the three rejected attempts gave back the identity tokens they took
+        for (int i = 0; i < 3; i++)
+            assertThatThrownBy(() -> loginRateLimiter.acquire("bob", "10.0.0.1"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> loginRateLimiter.acquire("bob", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acquire_ShouldApplyGlobalCap_AcrossIdentitiesAndIps() {
+        // Given
+        for (int i = 0; i < 10; i++)
+            loginRateLimiter.acquire("user-" + i, "10.0.0." + i);
+
+        // When & Then - refilled at one attempt per 100ms
+        assertThatThrownBy(() -> loginRateLimiter.acquire("user-10", "10.0.0.10"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getRetryAfter())
+                .isEqualTo(Duration.ofMillis(100));
+        now = now.plusMillis(100);
+        loginRateLimiter.acquire("user-10", "10.0.0.10");
+    }
+
+    @Test
+    void acquire_ShouldHandOutExactlyCapacity_UnderConcurrentAttempts() throws Exception {
+        // Given
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++)
+                attempts.add(executor.submit(() -> {
+                    try {
+                        loginRateLimiter.acquire("ann@example.com", "10.0.0.1");
+                        return true;
+                    } catch (TooManyRequestsException e) {
+                        return false;
+                    }
+                }));
+        }
+
+        // Then
+        long allowed = 0;
+        for (Future<Boolean> attempt : attempts)
+            if (attempt.get())
+                allowed++;
+        assertThat(allowed).isEqualTo(3);
+    }
+
+    @Test
+    void limit_ShouldRejectEmptyCapacity() {
+        // When & Then
+        assertThatThrownBy(() -> new LoginRateLimiter.Limit(0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.taskmanagement.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PreloadedJwkSourceTest {
+
+    private static RSAKey key1;
+    private static RSAKey key2;
+
+    @Mock
+    private Callable<String> remoteJwkSet;
+
+    @Mock
+    private Clock clock;
+
+    private Instant now;
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2025-01-01T10:00:00Z");
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void load_ShouldPreloadKeysFromUri() throws Exception {
+        // Given
+        when(remoteJwkSet.call()).thenReturn(jwks(key1));
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, null, Duration.ofSeconds(30), clock);
+
+        // When
+        jwkSource.load();
+
+        // Then - the first token needs no fetch
+        assertThat(jwkSource.get(byKeyId("key-1"), null)).extracting(JWK::getKeyID).containsExactly("key-1");
+        verify(remoteJwkSet, times(1)).call();
+    }
+
+    @Test
+    void load_ShouldFallBackToLocalFile_WhenUriIsNotReachable() throws Exception {
+        // Given
+        when(remoteJwkSet.call()).thenThrow(new IllegalStateException("connection refused"));
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, file(key1), Duration.ofSeconds(30), clock);
+
+        // When
+        jwkSource.load();
+
+        // Then
+        assertThat(jwkSource.get(byKeyId("key-1"), null)).hasSize(1);
+    }
+
+    @Test
+    void get_ShouldServeLocalFileOnly_WhenNoUriIsConfigured() {
+        // Given
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(null, file(key1), Duration.ofSeconds(30), clock);
+        jwkSource.load();
+
+        // When & Then - an unknown kid cannot trigger a fetch
+        assertThat(jwkSource.get(byKeyId("key-1"), null)).hasSize(1);
+        assertThat(jwkSource.get(byKeyId("key-2"), null)).isEmpty();
+    }
+
+    @Test
+    void refresh_ShouldKeepLastGoodSet_WhenFetchFailsOrIsEmpty() throws Exception {
+        // Given
+        when(remoteJwkSet.call()).thenReturn(jwks(key1))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn(new JWKSet().toString());
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, null, Duration.ofSeconds(30), clock);
+        jwkSource.load();
+
+        // When
+        jwkSource.refresh();
+        jwkSource.refresh();
+
+        // Then
+        assertThat(jwkSource.get(byKeyId("key-1"), null)).hasSize(1);
+    }
+
+    @Test
+    void get_ShouldRefetchOnUnknownKid_AtMostOncePerInterval() throws Exception {
+        // Given - the keys are rotated after startup
+        when(remoteJwkSet.call()).thenReturn(jwks(key1), jwks(key2));
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, null, Duration.ofSeconds(30), clock);
+        jwkSource.load();
+        now = now.plusSeconds(60);
+
+        // When
+        List<JWK> rotated = jwkSource.get(byKeyId("key-2"), null);
+        List<JWK> unknown = jwkSource.get(byKeyId("key-3"), null);
+
+        // Then - the second unknown kid falls inside the interval and does not fetch
+        assertThat(rotated).extracting(JWK::getKeyID).containsExactly("key-2");
+        assertThat(unknown).isEmpty();
+        verify(remoteJwkSet, times(2)).call();
+    }
+
+    @Test
+    void get_ShouldRefetchAgain_AfterIntervalHasPassed() throws Exception {
+        // Given
+        when(remoteJwkSet.call()).thenReturn(jwks(key1));
+        PreloadedJwkSource jwkSource = new PreloadedJwkSource(remoteJwkSet, null, Duration.ofSeconds(30), clock);
+        jwkSource.load();
+
+        // When
+        jwkSource.get(byKeyId("key-3"), null);
+        now = now.plusSeconds(31);
+        jwkSource.get(byKeyId("key-3"), null);
+
+        // Then - the first lookup is inside the interval after startup, the second is not
+        verify(remoteJwkSet, times(2)).call();
+    }
+
+    @Test
+    void constructor_ShouldRequireASource() {
+        assertThatThrownBy(() -> new PreloadedJwkSource(null, null, Duration.ofSeconds(30), clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String jwks(RSAKey key) {
+        return new JWKSet(key.toPublicJWK()).toString();
+    }
+
+    private static Resource file(RSAKey key) {
+        return new ByteArrayResource(jwks(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JWKSelector byKeyId(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
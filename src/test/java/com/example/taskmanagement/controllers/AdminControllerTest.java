@@ -0,0 +1,61 @@
+package com.example.taskmanagement.controllers;
+
+import com.example.taskmanagement.exceptions.handler.GlobalExceptionHandler;
+import com.example.taskmanagement.mappers.UserMapper;
+import com.example.taskmanagement.services.AdminService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Request mapping and error responses only; the admin role check is covered by the security configuration
+@ExtendWith(MockitoExtension.class)
+class AdminControllerTest {
+
+    @Mock
+    private AdminService adminService;
+
+    @Mock
+    private UserMapper userMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AdminController(adminService, userMapper, new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void listUsers_ShouldReturnBadRequest_WhenCursorAndEmailPrefixAreCombined() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users").param("after", "").param("emailPrefix", "ann"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST_FORMAT"));
+        verifyNoInteractions(adminService);
+    }
+
+    @Test
+    void searchUsers_ShouldSearchDirectory_WhenOnlyEmailPrefixIsGiven() throws Exception {
+        // Given
+        when(adminService.searchUsersByEmail("ann", 20)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("emailPrefix", "ann"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
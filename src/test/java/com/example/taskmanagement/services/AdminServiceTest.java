@@ -0,0 +1,80 @@
+package com.example.taskmanagement.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceTest {
+
+    @Mock
+    private CognitoService cognitoService;
+
+    @Mock
+    private CognitoUserDirectory userDirectory;
+
+    @InjectMocks
+    private AdminService adminService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamUsers_ShouldWriteFirstPage_ThenContinueFromItsToken() {
+        // Given
+        ListUsersResponse firstPage = ListUsersResponse.builder()
+                .users(user("ann"))
+                .paginationToken("page-2")
+                .build();
+        doAnswer(invocation -> {
+            invocation.<Consumer<UserType>>getArgument(1).accept(user("bob"));
+            return null;
+        }).when(cognitoService).forEachUser(eq("page-2"), any(Consumer.class));
+        List<String> usernames = new ArrayList<>();
+
+        // When
+        adminService.streamUsers(firstPage, user -> usernames.add(user.username()));
+
+        // Then
+        assertThat(usernames).containsExactly("ann", "bob");
+    }
+
+    @Test
+    void streamUsers_ShouldNotCallCognitoAgain_WhenFirstPageIsTheLast() {
+        // Given
+        ListUsersResponse firstPage = ListUsersResponse.builder().users(user("ann")).build();
+        List<String> usernames = new ArrayList<>();
+
+        // When
+        adminService.streamUsers(firstPage, user -> usernames.add(user.username()));
+
+        // Then
+        assertThat(usernames).containsExactly("ann");
+        verifyNoInteractions(cognitoService);
+    }
+
+    private static UserType user(String username) {
+        return UserType.builder().username(username).build();
+    }
+
+    @Test
+    void searchUsersByEmail_ShouldRejectLimitOutsidePageSize() {
+        // When & Then
+        assertThatThrownBy(() -> adminService.searchUsersByEmail("ann", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adminService.searchUsersByEmail("ann", CognitoService.LIST_USERS_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userDirectory);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.taskmanagement.services;
+
+import com.example.taskmanagement.exceptions.AuthenticationException;
+import com.example.taskmanagement.model.dto.requests.SignInRequestDto;
+import com.example.taskmanagement.model.enums.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminInitiateAuthResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminRespondToAuthChallengeResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AuthenticationResultType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ChallengeNameType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.NotAuthorizedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private CognitoService cognitoService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void signIn_ShouldCompleteWithIdToken_WhenCredentialsAreValid() {
+        // Given
+        when(cognitoService.authenticateUser("ann", "secret"))
+                .thenReturn(CompletableFuture.completedFuture(authenticated("id-token")));
+
+        // When
+        CompletableFuture<String> result = authService.signIn(request("ann", "secret", null));
+
+        // Then
+        assertThat(result).isCompletedWithValue("id-token");
+    }
+
+    @Test
+    void signIn_ShouldFail_WhenPasswordChangeIsRequired() {
+        // Given
+        when(cognitoService.authenticateUser("ann", "secret"))
+                .thenReturn(CompletableFuture.completedFuture(newPasswordRequired()));
+
+        // When
+        CompletableFuture<String> result = authService.signIn(request("ann", "secret", null));
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(AuthenticationException.class)
+                .satisfies(e -> assertThat(((AuthenticationException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.PASSWORD_CHANGE_REQUIRED));
+    }
+
+    @Test
+    void signIn_ShouldPassCognitoFailureThrough() {
+        // Given
+        NotAuthorizedException notAuthorized = NotAuthorizedException.builder().message("Incorrect username or password.").build();
+        when(cognitoService.authenticateUser("ann", "wrong")).thenReturn(CompletableFuture.failedFuture(notAuthorized));
+
+        // When
+        CompletableFuture<String> result = authService.signIn(request("ann", "wrong", null));
+
+        // Then
+        assertThatThrownBy(result::join).hasCause(notAuthorized);
+    }
+
+    @Test
+    void forcePasswordChange_ShouldAnswerChallenge_WhenPasswordChangeIsRequired() {
+        // Given
+        AdminInitiateAuthResponse challenge = newPasswordRequired();
+        when(cognitoService.authenticateUser("ann", "temporary"))
+                .thenReturn(CompletableFuture.completedFuture(challenge));
+        when(cognitoService.changePassword(challenge, "ann", "new-secret"))
+                .thenReturn(CompletableFuture.completedFuture(AdminRespondToAuthChallengeResponse.builder()
+                        .authenticationResult(AuthenticationResultType.builder().idToken("id-token").build())
+                        .build()));
+
+        // When
+        CompletableFuture<String> result = authService.forcePasswordChange(request("ann", "temporary", "new-secret"));
+
+        // Then
+        assertThat(result).isCompletedWithValue("id-token");
+    }
+
+    @Test
+    void forcePasswordChange_ShouldFail_WhenNoChangeIsRequired() {
+        // Given
+        when(cognitoService.authenticateUser("ann", "secret"))
+                .thenReturn(CompletableFuture.completedFuture(authenticated("id-token")));
+
+        // When
+        CompletableFuture<String> result = authService.forcePasswordChange(request("ann", "secret", "new-secret"));
+
+        // Then
+        assertThatThrownBy(result::join)
+                .cause()
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Password change not required for this user");
+        verify(cognitoService, never()).changePassword(any(), any(), any());
+    }
+
+    @Test
+    void forcePasswordChange_ShouldRejectMissingNewPassword_WithoutCallingCognito() {
+        // When & Then
+        assertThatThrownBy(() -> authService.forcePasswordChange(request("ann", "secret", " ")))
+                .isInstanceOf(AuthenticationException.class);
+        verifyNoInteractions(cognitoService);
+    }
+
+    private static SignInRequestDto request(String loginIdentifier, String password, String newPassword) {
+        SignInRequestDto request = new SignInRequestDto();
+        request.setUsername(loginIdentifier);
+        request.setPassword(password);
+        request.setNewPassword(newPassword);
+        return request;
+    }
+
+    private static AdminInitiateAuthResponse authenticated(String idToken) {
+        return AdminInitiateAuthResponse.builder()
+                .authenticationResult(AuthenticationResultType.builder().idToken(idToken).build())
+                .build();
+    }
+
+    private static AdminInitiateAuthResponse newPasswordRequired() {
+        return AdminInitiateAuthResponse.builder()
+                .challengeName(ChallengeNameType.NEW_PASSWORD_REQUIRED)
+                .session("session-1")
+                .build();
+    }
+}
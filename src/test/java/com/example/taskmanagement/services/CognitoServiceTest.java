@@ -0,0 +1,164 @@
+package com.example.taskmanagement.services;
+
+import com.example.taskmanagement.exceptions.InternalErrorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.TooManyRequestsException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+import software.amazon.awssdk.services.cognitoidentityprovider.paginators.ListUsersIterable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CognitoServiceTest {
+
+    @Mock
+    private CognitoIdentityProviderClient cognitoClient;
+
+    @InjectMocks
+    private CognitoService cognitoService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cognitoService, "userPoolId", "pool-1");
+    }
+
+    @Test
+    void forEachUser_ShouldWalkEveryPageInOrder() {
+        // Given - 5 pages behind pagination tokens, more than the prefetch queue holds
+        paginator();
+        when(cognitoClient.listUsers(any(ListUsersRequest.class))).thenAnswer(invocation -> {
+            String token = invocation.<ListUsersRequest>getArgument(0).paginationToken();
+            int pageIndex = token == null ? 0 : Integer.parseInt(token);
+            return page(pageIndex, pageIndex < 4 ? String.valueOf(pageIndex + 1) : null);
+        });
+        List<String> usernames = new ArrayList<>();
+
+        // When
+        cognitoService.forEachUser(user -> usernames.add(user.username()));
+
+        // Then
+        assertThat(usernames).containsExactlyElementsOf(
+                IntStream.range(0, 5).boxed().flatMap(i -> List.of("user-" + i + "-a", "user-" + i + "-b").stream()).toList());
+        verify(cognitoClient, times(5)).listUsers(any(ListUsersRequest.class));
+    }
+
+    @Test
+    void forEachUser_ShouldFail_WhenPageCannotBeFetched() {
+        // Given
+        paginator();
+        when(cognitoClient.listUsers(any(ListUsersRequest.class)))
+                .thenReturn(page(0, "1"))
+                .thenThrow(TooManyRequestsException.builder().message("Rate exceeded").build());
+        List<UserType> users = new ArrayList<>();
+
+        // When & Then - the users of the first page were handed over before the failure
+        assertThatThrownBy(() -> cognitoService.forEachUser(users::add))
+                .isInstanceOf(InternalErrorException.class)
+                .hasCauseInstanceOf(TooManyRequestsException.class);
+        assertThat(users).hasSize(2);
+    }
+
+    @Test
+    void forEachUser_ShouldFail_WhenPrefetcherHitsError() {
+        // Given
+        paginator();
+        when(cognitoClient.listUsers(any(ListUsersRequest.class)))
+                .thenReturn(page(0, "1"))
+                .thenThrow(new OutOfMemoryError("Java heap space"));
+        List<UserType> users = new ArrayList<>();
+
+        // When & Then - without a failure page the consumer would wait for the next page forever
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> cognitoService.forEachUser(users::add))
+                        .isInstanceOf(OutOfMemoryError.class));
+        assertThat(users).hasSize(2);
+    }
+
+    @Test
+    void forEachUser_ShouldStopPrefetching_WhenActionFails() {
+        // Given - an endless pool
+        paginator();
+        when(cognitoClient.listUsers(any(ListUsersRequest.class))).thenReturn(page(0, "next"));
+
+        // When & Then
+        assertThatThrownBy(() -> cognitoService.forEachUser(user -> {
+            throw new IllegalStateException("client went away");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void forEachUser_ShouldStartAtPaginationToken() {
+        // Given - the first page was already read by the caller
+        paginator();
+        when(cognitoClient.listUsers(any(ListUsersRequest.class))).thenAnswer(invocation -> {
+            int pageIndex = Integer.parseInt(invocation.<ListUsersRequest>getArgument(0).paginationToken());
+            return page(pageIndex, pageIndex < 2 ? String.valueOf(pageIndex + 1) : null);
+        });
+        List<String> usernames = new ArrayList<>();
+
+        // When
+        cognitoService.forEachUser("1", user -> usernames.add(user.username()));
+
+        // Then
+        assertThat(usernames).containsExactly("user-1-a", "user-1-b", "user-2-a", "user-2-b");
+    }
+
+    @Test
+    void firstUserPage_ShouldFailWithInternalError_WhenCognitoRejectsTheCall() {
+        // Given
+        when(cognitoClient.listUsers(any(ListUsersRequest.class)))
+                .thenThrow(TooManyRequestsException.builder().message("Rate exceeded").build());
+
+        // When & Then
+        assertThatThrownBy(() -> cognitoService.firstUserPage())
+                .isInstanceOf(InternalErrorException.class)
+                .hasCauseInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void listUsers_ShouldPassCursorAndCapPageSize() {
+        // Given
+        when(cognitoClient.listUsers(any(ListUsersRequest.class))).thenReturn(page(1, "token-2"));
+
+        // When
+        ListUsersResponse response = cognitoService.listUsers("token-1", 500);
+
+        // Then
+        assertThat(response.paginationToken()).isEqualTo("token-2");
+        verify(cognitoClient).listUsers(argThat((ListUsersRequest request) ->
+                request.paginationToken().equals("token-1")
+                        && request.limit() == CognitoService.LIST_USERS_PAGE_SIZE
+                        && request.userPoolId().equals("pool-1")));
+    }
+
+    // The real SDK paginator, driving the mocked listUsers call
+    private void paginator() {
+        when(cognitoClient.listUsersPaginator(any(ListUsersRequest.class)))
+                .thenAnswer(invocation -> new ListUsersIterable(cognitoClient, invocation.getArgument(0)));
+    }
+
+    private static ListUsersResponse page(int pageIndex, String nextToken) {
+        return ListUsersResponse.builder()
+                .users(UserType.builder().username("user-" + pageIndex + "-a").build(),
+                        UserType.builder().username("user-" + pageIndex + "-b").build())
+                .paginationToken(nextToken)
+                .build();
+    }
+}
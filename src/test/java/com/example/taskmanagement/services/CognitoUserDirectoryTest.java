@@ -0,0 +1,211 @@
+package com.example.taskmanagement.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CognitoUserDirectoryTest {
+
+    @Mock
+    private CognitoService cognitoService;
+
+    @InjectMocks
+    private CognitoUserDirectory userDirectory;
+
+    @Test
+    void findBySub_ShouldServeRefreshedUsersLocally() {
+        // Given
+        listedUsers(user("sub-1", "ann@example.com"), user("sub-2", "bob@example.com"));
+        userDirectory.refresh();
+
+        // When
+        Optional<UserType> result = userDirectory.findBySub("sub-2");
+
+        // Then
+        assertThat(result).map(UserType::username).contains("user-sub-2");
+        verify(cognitoService, never()).getUserBySub(any());
+    }
+
+    @Test
+    void findBySub_ShouldLookUpUnknownSubOnce() {
+        // Given
+        when(cognitoService.getUserBySub("sub-1")).thenReturn(Optional.of(user("sub-1", "ann@example.com")));
+
+        // When
+        userDirectory.findBySub("sub-1");
+        Optional<UserType> result = userDirectory.findBySub("sub-1");
+
+        // Then
+        assertThat(result).isPresent();
+        verify(cognitoService, times(1)).getUserBySub("sub-1");
+    }
+
+    @Test
+    void refresh_ShouldApplyChangesAndRemoveDeletedUsers() {
+        // Given
+        listedUsers(user("sub-1", "ann@example.com"), user("sub-2", "bob@example.com"));
+        userDirectory.refresh();
+        listedUsers(user("sub-1", "anna@example.com"));
+
+        // When
+        userDirectory.refresh();
+
+        // Then
+        assertThat(userDirectory.size()).isEqualTo(1);
+        assertThat(userDirectory.searchByEmailPrefix("ann@", 10)).isEmpty();
+        assertThat(userDirectory.searchByEmailPrefix("anna", 10)).hasSize(1);
+        assertThat(userDirectory.searchByEmailPrefix("bob", 10)).isEmpty();
+    }
+
+    @Test
+    void refresh_ShouldKeepUsers_WhenListingFails() {
+        // Given
+        listedUsers(user("sub-1", "ann@example.com"));
+        userDirectory.refresh();
+        doThrow(new IllegalStateException("throttled")).when(cognitoService).forEachUser(any());
+
+        // When
+        userDirectory.refresh();
+
+        // Then
+        assertThat(userDirectory.size()).isEqualTo(1);
+    }
+
+    @Test
+    void searchByEmailPrefix_ShouldMatchCaseInsensitively_InEmailOrder() {
+        // Given
+        listedUsers(user("sub-1", "Carl@example.com"), user("sub-2", "carla@example.com"),
+                user("sub-3", "dan@example.com"));
+        userDirectory.refresh();
+
+        // When
+        List<UserType> result = userDirectory.searchByEmailPrefix("CAR", 10);
+
+        // Then
+        assertThat(result).extracting(UserType::username).containsExactly("user-sub-1", "user-sub-2");
+        assertThat(userDirectory.searchByEmailPrefix("car", 1)).hasSize(1);
+    }
+
+    @Test
+    void remove_ShouldDropUserFromBothIndexes() {
+        // Given
+        UserType ann = user("sub-1", "ann@example.com");
+        listedUsers(ann);
+        userDirectory.refresh();
+        when(cognitoService.getUserBySub("sub-1")).thenReturn(Optional.empty());
+
+        // When
+        userDirectory.remove(ann);
+
+        // Then
+        assertThat(userDirectory.searchByEmailPrefix("ann", 10)).isEmpty();
+        assertThat(userDirectory.findBySub("sub-1")).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_ShouldNotBringBackUser_DeletedWhileListing() {
+        // Given
+        UserType ann = user("sub-1", "ann@example.com");
+        listedUsers(ann);
+        userDirectory.refresh();
+        // The listing has already passed ann when the admin deletes her
+        doAnswer(invocation -> {
+            Consumer<UserType> action = invocation.getArgument(0);
+            action.accept(ann);
+            userDirectory.remove(ann);
+            action.accept(user("sub-2", "bob@example.com"));
+            return null;
+        }).when(cognitoService).forEachUser(any(Consumer.class));
+
+        // When
+        userDirectory.refresh();
+
+        // Then
+        assertThat(userDirectory.searchByEmailPrefix("ann", 10)).isEmpty();
+        assertThat(userDirectory.searchByEmailPrefix("bob", 10)).hasSize(1);
+        assertThat(userDirectory.size()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_ShouldKeepUser_LookedUpWhileListing() {
+        // Given - bob signed up after the listing passed his position
+        when(cognitoService.getUserBySub("sub-2")).thenReturn(Optional.of(user("sub-2", "bob@example.com")));
+        doAnswer(invocation -> {
+            Consumer<UserType> action = invocation.getArgument(0);
+            action.accept(user("sub-1", "ann@example.com"));
+            userDirectory.findBySub("sub-2");
+            return null;
+        }).when(cognitoService).forEachUser(any(Consumer.class));
+
+        // When
+        userDirectory.refresh();
+
+        // Then
+        assertThat(userDirectory.size()).isEqualTo(2);
+        assertThat(userDirectory.searchByEmailPrefix("bob", 10)).hasSize(1);
+    }
+
+    @Test
+    void findBySub_ShouldNotKeepUser_DeletedDuringLookup() {
+        // Given
+        UserType ann = user("sub-1", "ann@example.com");
+        when(cognitoService.getUserBySub("sub-1")).thenAnswer(invocation -> {
+            userDirectory.remove(ann);
+            return Optional.of(ann);
+        });
+
+        // When
+        userDirectory.findBySub("sub-1");
+
+        // Then
+        assertThat(userDirectory.size()).isZero();
+        assertThat(userDirectory.searchByEmailPrefix("ann", 10)).isEmpty();
+    }
+
+    @Test
+    void refresh_ShouldApplyLaterListing_AfterLocalChangeWasSeen() {
+        // Given - deleted locally, then re-created in Cognito before the next listing started
+        UserType ann = user("sub-1", "ann@example.com");
+        listedUsers(ann);
+        userDirectory.refresh();
+        userDirectory.remove(ann);
+
+        // When
+        userDirectory.refresh();
+
+        // Then
+        assertThat(userDirectory.searchByEmailPrefix("ann", 10)).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void listedUsers(UserType... users) {
+        doAnswer(invocation -> {
+            Consumer<UserType> action = invocation.getArgument(0);
+            List.of(users).forEach(action);
+            return null;
+        }).when(cognitoService).forEachUser(any(Consumer.class));
+    }
+
+    private static UserType user(String sub, String email) {
+        return UserType.builder()
+                .username("user-" + sub)
+                .attributes(AttributeType.builder().name("sub").value(sub).build(),
+                        AttributeType.builder().name("email").value(email).build())
+                .build();
+    }
+}
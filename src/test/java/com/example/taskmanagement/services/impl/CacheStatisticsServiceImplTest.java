@@ -0,0 +1,95 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.config.CachingJwtAuthenticationManager;
+import com.example.taskmanagement.model.dto.response.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatisticsServiceImplTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CachingJwtAuthenticationManager jwtAuthenticationManager;
+
+    @InjectMocks
+    private CacheStatisticsServiceImpl cacheStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // Not a @Mock field: SessionFactory is an EntityManagerFactory too and would be injected instead
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(jwtAuthenticationManager.stats()).thenReturn(CacheStats.empty());
+    }
+
+    @Test
+    void getCacheStats_ShouldReportEveryRegionSortedByName_WithHitRatio() {
+        // Given
+        CacheRegionStatistics tasks = regionStatistics(6, 2, 2);
+        CacheRegionStatistics projects = regionStatistics(0, 0, 0);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"tasks", "projects"});
+        when(statistics.getCacheRegionStatistics("tasks")).thenReturn(tasks);
+        when(statistics.getCacheRegionStatistics("projects")).thenReturn(projects);
+
+        // When
+        List<CacheStatsDto> result = cacheStatisticsService.getCacheStats();
+
+        // Then
+        assertThat(result).containsExactly(
+                new CacheStatsDto("jwt-authentications", 0, 0, 0, 0),
+                new CacheStatsDto("projects", 0, 0, 0, 0),
+                new CacheStatsDto("tasks", 6, 2, 2, 0.75));
+    }
+
+    @Test
+    void getCacheStats_ShouldSkipRegionsWithoutStatistics() {
+        // Given
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"projects"});
+        when(statistics.getCacheRegionStatistics("projects")).thenReturn(null);
+
+        // When & Then
+        assertThat(cacheStatisticsService.getCacheStats())
+                .extracting(CacheStatsDto::name)
+                .containsExactly("jwt-authentications");
+    }
+
+    @Test
+    void getCacheStats_ShouldReportVerifiedTokenCache() {
+        // Given - 9 hits, 3 misses of which 2 verified and 1 was rejected
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+        when(jwtAuthenticationManager.stats()).thenReturn(CacheStats.of(9, 3, 2, 1, 0, 0, 0));
+
+        // When & Then
+        assertThat(cacheStatisticsService.getCacheStats())
+                .containsExactly(new CacheStatsDto("jwt-authentications", 9, 3, 2, 0.75));
+    }
+
+    private CacheRegionStatistics regionStatistics(long hits, long misses, long puts) {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getHitCount()).thenReturn(hits);
+        when(regionStatistics.getMissCount()).thenReturn(misses);
+        when(regionStatistics.getPutCount()).thenReturn(puts);
+        return regionStatistics;
+    }
+}
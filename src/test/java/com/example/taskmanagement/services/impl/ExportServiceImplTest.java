@@ -0,0 +1,138 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.mappers.ProjectMapper;
+import com.example.taskmanagement.mappers.TaskMapper;
+import com.example.taskmanagement.model.dto.response.ExportLineDto;
+import com.example.taskmanagement.model.dto.response.ProjectResponseDto;
+import com.example.taskmanagement.model.dto.response.TaskResponseDto;
+import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import com.example.taskmanagement.model.projection.ProjectSummary;
+import com.example.taskmanagement.services.ProjectService;
+import com.example.taskmanagement.services.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ProjectMapper projectMapper;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ExportServiceImpl exportService;
+
+    private String ownerId;
+    private ProjectSummary summary;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = "user-123";
+        UUID projectId = UUID.randomUUID();
+        summary = new ProjectSummary(projectId, "Test Project", "Test Description",
+                LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .name("Test Task")
+                .status(TaskStatus.TODO)
+                .project(Project.builder().id(projectId).name("Test Project").build())
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportWorkspace_ShouldWriteProjectsThenTasksAsNdjson() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Consumer<ProjectSummary>>getArgument(1).accept(summary);
+            return null;
+        }).when(projectService).streamProjects(eq(ownerId), any(Consumer.class));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Task>>getArgument(1).accept(task);
+            return null;
+        }).when(taskService).streamTasks(eq(ownerId), any(Consumer.class));
+        when(projectMapper.toDto(summary)).thenReturn(new ProjectResponseDto(
+                summary.id().toString(), "Test Project", "Test Description", 1, "now", "now"));
+        when(taskMapper.toDto(task)).thenReturn(new TaskResponseDto(
+                task.getId(), "Test Task", null, TaskStatus.TODO, summary.id(), "Test Project", "now", "now"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportWorkspace(ownerId, out);
+
+        // Then - one document per line, nothing before or between them but the newline
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                objectMapper.writeValueAsString(ExportLineDto.project(projectMapper.toDto(summary))) + "\n"
+                        + objectMapper.writeValueAsString(ExportLineDto.task(taskMapper.toDto(task))) + "\n");
+        JsonNode projectLine = objectMapper.readTree(lines[0]);
+        JsonNode taskLine = objectMapper.readTree(lines[1]);
+        assertThat(projectLine.get("type").asText()).isEqualTo("project");
+        assertThat(projectLine.get("data").get("id").asText()).isEqualTo(summary.id().toString());
+        assertThat(taskLine.get("type").asText()).isEqualTo("task");
+        assertThat(taskLine.get("data").get("projectId").asText()).isEqualTo(summary.id().toString());
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportWorkspace_ShouldPropagateIOException_WhenClientDisconnects() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Consumer<ProjectSummary>>getArgument(1).accept(summary);
+            return null;
+        }).when(projectService).streamProjects(eq(ownerId), any(Consumer.class));
+        when(projectMapper.toDto(summary)).thenReturn(new ProjectResponseDto(
+                summary.id().toString(), "Test Project", "Test Description", 1, "now", "now"));
+        OutputStream brokenOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.exportWorkspace(ownerId, brokenOut))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+}
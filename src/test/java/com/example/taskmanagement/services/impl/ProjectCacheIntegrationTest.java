@@ -0,0 +1,145 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.config.TestSecurityConfig;
+import com.example.taskmanagement.exceptions.ProjectNotFoundException;
+import com.example.taskmanagement.exceptions.TaskNotFoundException;
+import com.example.taskmanagement.model.entity.Project;
+import com.example.taskmanagement.model.entity.Task;
+import com.example.taskmanagement.model.enums.TaskStatus;
+import com.example.taskmanagement.repositories.ProjectRepository;
+import com.example.taskmanagement.services.ProjectService;
+import com.example.taskmanagement.services.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Writes followed by reads against H2 with the second-level and query caches on, so a region that
+ * is not invalidated shows up as a stale read.
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+class ProjectCacheIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String ownerId;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = "owner-" + UUID.randomUUID();
+        project = projectService.createProject(ownerId, Project.builder().name("Original").build());
+    }
+
+    @Test
+    void getProjectById_ShouldBeServedFromSecondLevelCache() {
+        // Given
+        projectService.getProjectById(ownerId, project.getId().toString());
+        long hits = projectRegion().getHitCount();
+
+        // When
+        projectService.getProjectById(ownerId, project.getId().toString());
+
+        // Then
+        assertThat(projectRegion().getHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    void getProjectById_ShouldReturnUpdatedProject_AfterUpdate() {
+        // Given
+        String projectId = project.getId().toString();
+        projectService.getProjectById(ownerId, projectId);
+
+        // When
+        projectService.updateProject(ownerId, projectId, Project.builder().name("Updated").build());
+
+        // Then
+        assertThat(projectService.getProjectById(ownerId, projectId).getName()).isEqualTo("Updated");
+    }
+
+    @Test
+    void getProjectById_ShouldReturnPatchedProject_AfterConditionalPatch() {
+        // Given - the PATCH is a bulk UPDATE, which bypasses the cached entity
+        String projectId = project.getId().toString();
+        Project cached = projectService.getProjectById(ownerId, projectId);
+
+        // When
+        long version = projectService.patchProject(ownerId, projectId, cached.getVersion(), Map.of("name", "Patched"));
+
+        // Then
+        Project reloaded = projectService.getProjectById(ownerId, projectId);
+        assertThat(reloaded.getName()).isEqualTo("Patched");
+        assertThat(reloaded.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void reads_ShouldNotFindProject_AfterDelete() {
+        // Given - warm both the entity region and the cached existence query
+        String projectId = project.getId().toString();
+        projectService.getProjectById(ownerId, projectId);
+        assertThat(projectRepository.existsByIdAndOwnerId(project.getId(), ownerId)).isTrue();
+
+        // When
+        projectService.deleteProject(ownerId, projectId);
+
+        // Then
+        assertThatThrownBy(() -> projectService.getProjectById(ownerId, projectId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        assertThat(projectRepository.existsByIdAndOwnerId(project.getId(), ownerId)).isFalse();
+    }
+
+    @Test
+    void getTaskById_ShouldReturnCurrentTask_AfterPatchAndDelete() {
+        // Given
+        Task task = taskService.createTask(ownerId, project.getId().toString(),
+                Task.builder().name("Draft").status(TaskStatus.TODO).build());
+        String taskId = task.getId().toString();
+        long version = taskService.getTaskById(ownerId, taskId).getVersion();
+
+        // When
+        taskService.patchTask(ownerId, taskId, version, Map.of("status", "DONE"));
+
+        // Then
+        assertThat(taskService.getTaskById(ownerId, taskId).getStatus()).isEqualTo(TaskStatus.DONE);
+        taskService.deleteTask(ownerId, taskId);
+        assertThatThrownBy(() -> taskService.getTaskById(ownerId, taskId))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    void createTask_ShouldReturnTaskWithLoadedProject_OutsideAnyTransaction() {
+        // When - no open-in-view here, so a lazy project could not be read after the service returns
+        Task task = taskService.createTask(ownerId, project.getId().toString(),
+                Task.builder().name("Draft").status(TaskStatus.TODO).build());
+
+        // Then
+        assertThat(Hibernate.isInitialized(task.getProject())).isTrue();
+        assertThat(task.getProject().getName()).isEqualTo("Original");
+    }
+
+    private CacheRegionStatistics projectRegion() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics("projects");
+    }
+}
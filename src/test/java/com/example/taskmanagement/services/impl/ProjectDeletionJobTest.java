@@ -0,0 +1,84 @@
+package com.example.taskmanagement.services.impl;
+
+import com.example.taskmanagement.repositories.ProjectRepository;
+import com.example.taskmanagement.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectDeletionJobTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProjectDeletionJob projectDeletionJob;
+
+    private String ownerId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = "user-123";
+        projectId = UUID.randomUUID();
+        ReflectionTestUtils.setField(projectDeletionJob, "chunkSize", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteInChunks_ShouldDeleteChunksUntilEmpty_ThenDeleteProject() {
+        // Given
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        when(taskRepository.findIdsByProjectIdAndOwnerId(projectId, ownerId, Limit.of(2)))
+                .thenReturn(firstChunk, secondChunk, List.of());
+        when(taskRepository.deleteAllByIdIn(any())).thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        // When
+        projectDeletionJob.deleteInChunks(ownerId, projectId);
+
+        // Then
+        verify(taskRepository).deleteAllByIdIn(firstChunk);
+        verify(taskRepository).deleteAllByIdIn(secondChunk);
+        verify(taskRepository).deleteAllByProjectIdAndOwnerId(projectId, ownerId);
+        verify(projectRepository).deleteByIdAndOwnerId(ownerId, projectId);
+    }
+
+    @Test
+    void deleteInChunks_ShouldKeepProject_WhenChunkDeletionFails() {
+        // Given
+        when(taskRepository.findIdsByProjectIdAndOwnerId(projectId, ownerId, Limit.of(2)))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        projectDeletionJob.deleteInChunks(ownerId, projectId);
+
+        // Then
+        verifyNoInteractions(transactionTemplate, projectRepository);
+    }
+}
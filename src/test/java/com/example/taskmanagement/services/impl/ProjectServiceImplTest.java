@@ -1,11 +1,16 @@
 package com.example.taskmanagement.services.impl;
 
+import com.example.taskmanagement.exceptions.PreconditionFailedException;
 import com.example.taskmanagement.exceptions.ProjectNotFoundException;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
 import com.example.taskmanagement.model.entity.Task;
 import com.example.taskmanagement.model.enums.TaskStatus;
+import com.example.taskmanagement.model.projection.ChangeStamp;
+import com.example.taskmanagement.model.projection.ProjectSummary;
 import com.example.taskmanagement.repositories.ProjectRepository;
+import com.example.taskmanagement.repositories.TaskRepository;
+import com.example.taskmanagement.repositories.VersionedUpdateRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,12 +21,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +43,15 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectDeletionJob projectDeletionJob;
+
+    @Mock
+    private VersionedUpdateRepository versionedUpdateRepository;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -58,31 +77,33 @@ class ProjectServiceImplTest {
 
 
     @Test
-    void listProjects_ShouldReturnProjectList_WhenOwnerIdProvided() {
+    void streamProjects_ShouldHandEachSummaryToActionInOrder() {
         // Given
-        List<Project> expectedProjects = Arrays.asList(project, createAnotherProject());
-        when(projectRepository.findAllWithTasks(ownerId)).thenReturn(expectedProjects);
+        List<ProjectSummary> summaries = List.of(summaryOf(project, 2), summaryOf(createAnotherProject(), 0));
+        when(projectRepository.streamAllSummaries(ownerId)).thenReturn(summaries.stream());
+        List<ProjectSummary> consumed = new ArrayList<>();
 
         // When
-        List<Project> result = projectService.listProjects(ownerId);
+        projectService.streamProjects(ownerId, consumed::add);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyElementsOf(expectedProjects);
-        verify(projectRepository).findAllWithTasks(ownerId);
+        assertThat(consumed).containsExactlyElementsOf(summaries);
     }
 
     @Test
-    void listProjects_ShouldReturnEmptyList_WhenNoProjectsFound() {
+    void getProjectsById_ShouldMapOwnedProjectsById_AndSkipQueryWhenNoIds() {
         // Given
-        when(projectRepository.findAllWithTasks(ownerId)).thenReturn(List.of());
+        when(projectRepository.findAllByIdInAndOwnerId(ownerId, List.of(project.getId())))
+                .thenReturn(List.of(project));
 
         // When
-        List<Project> result = projectService.listProjects(ownerId);
+        Map<UUID, Project> result = projectService.getProjectsById(ownerId, List.of(project.getId()));
+        Map<UUID, Project> empty = projectService.getProjectsById(ownerId, List.of());
 
         // Then
-        assertThat(result).isEmpty();
-        verify(projectRepository).findAllWithTasks(ownerId);
+        assertThat(result).containsOnlyKeys(project.getId());
+        assertThat(empty).isEmpty();
+        verify(projectRepository, times(1)).findAllByIdInAndOwnerId(any(), any());
     }
 
     // Test listProjects(String ownerId, Pageable pageable)
@@ -90,34 +111,59 @@ class ProjectServiceImplTest {
     void listProjectsPaginated_ShouldReturnPagedResponse_WhenValidInput() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<Project> projects = Arrays.asList(project);
-        Page<Project> projectPage = new PageImpl<>(projects, pageable, 1);
-        when(projectRepository.findAllWithTasksPaginated(ownerId, pageable)).thenReturn(projectPage);
+        ProjectSummary first = summaryOf(project, 1);
+        ProjectSummary second = summaryOf(createAnotherProject(), 3);
+        Page<UUID> idPage = new PageImpl<>(List.of(first.id(), second.id()), pageable, 2);
+        when(projectRepository.findIdsByOwnerId(ownerId, pageable)).thenReturn(idPage);
+        when(projectRepository.findSummariesByIdIn(idPage.getContent()))
+                .thenReturn(Arrays.asList(second, first));
 
         // When
-        PagedResponse<Project> result = projectService.listProjects(ownerId, pageable);
+        PagedResponse<ProjectSummary> result = projectService.listProjects(ownerId, pageable);
 
         // Then
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getPage().getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(first, second); // id page order is kept
+        assertThat(result.getPage().getTotalElements()).isEqualTo(2);
         assertThat(result.getPage().getTotalPages()).isEqualTo(1);
-        verify(projectRepository).findAllWithTasksPaginated(ownerId, pageable);
+        verify(projectRepository).findIdsByOwnerId(ownerId, pageable);
+        verify(projectRepository).findSummariesByIdIn(idPage.getContent());
     }
 
     @Test
     void listProjectsPaginated_ShouldReturnEmptyPage_WhenNoProjectsFound() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Project> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(projectRepository.findAllWithTasksPaginated(ownerId, pageable)).thenReturn(emptyPage);
+        Page<UUID> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(projectRepository.findIdsByOwnerId(ownerId, pageable)).thenReturn(emptyPage);
 
         // When
-        PagedResponse<Project> result = projectService.listProjects(ownerId, pageable);
+        PagedResponse<ProjectSummary> result = projectService.listProjects(ownerId, pageable);
 
         // Then
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getPage().getTotalElements()).isEqualTo(0);
-        verify(projectRepository).findAllWithTasksPaginated(ownerId, pageable);
+        verify(projectRepository).findIdsByOwnerId(ownerId, pageable);
+        verify(projectRepository, never()).findSummariesByIdIn(any());
+    }
+
+
+    @Test
+    void listProjectsSlice_ShouldReturnSummariesWithoutTotals_WhenCountDisabled() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        ProjectSummary summary = summaryOf(project, 0);
+        when(projectRepository.findIdsByOwnerIdSliced(ownerId, pageable))
+                .thenReturn(new SliceImpl<>(List.of(projectId), pageable, true));
+        when(projectRepository.findSummariesByIdIn(List.of(projectId))).thenReturn(List.of(summary));
+
+        // When
+        PagedResponse<ProjectSummary> result = projectService.listProjectsSlice(ownerId, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(summary);
+        assertThat(result.getPage().isHasNext()).isTrue();
+        assertThat(result.getPage().getTotalElements()).isNull();
+        verify(projectRepository, never()).findIdsByOwnerId(any(), any());
     }
 
 
@@ -204,6 +250,33 @@ class ProjectServiceImplTest {
         verify(projectRepository).findByIdAndOwnerId(ownerId, projectId);
     }
 
+    @Test
+    void getProjectReference_ShouldReturnReferenceWithoutLoadingProject_WhenOwned() {
+        // Given
+        Project reference = Project.builder().id(projectId).build();
+        when(projectRepository.existsByIdAndOwnerId(projectId, ownerId)).thenReturn(true);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(reference);
+
+        // When
+        Project result = projectService.getProjectReference(ownerId, projectIdStr);
+
+        // Then
+        assertThat(result).isSameAs(reference);
+        verify(projectRepository, never()).findByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void getProjectReference_ShouldThrowProjectNotFoundException_WhenNotOwned() {
+        // Given
+        when(projectRepository.existsByIdAndOwnerId(projectId, ownerId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> projectService.getProjectReference(ownerId, projectIdStr))
+                .isInstanceOf(ProjectNotFoundException.class)
+                .hasMessage("Project not found with id: " + projectIdStr);
+        verify(projectRepository, never()).getReferenceById(any());
+    }
+
     @Test
     void getProjectById_ShouldThrowIllegalArgumentException_WhenInvalidProjectId() {
         // Given
@@ -217,6 +290,66 @@ class ProjectServiceImplTest {
     }
 
 
+    @Test
+    void getProjectSummary_ShouldReturnSummary_WhenProjectExists() {
+        // Given
+        ProjectSummary summary = summaryOf(project, 4);
+        when(projectRepository.findSummaryByIdAndOwnerId(ownerId, projectId)).thenReturn(Optional.of(summary));
+
+        // When
+        ProjectSummary result = projectService.getProjectSummary(ownerId, projectIdStr);
+
+        // Then
+        assertThat(result).isEqualTo(summary);
+        assertThat(result.taskCount()).isEqualTo(4);
+        verify(projectRepository).findSummaryByIdAndOwnerId(ownerId, projectId);
+    }
+
+    @Test
+    void getProjectSummary_ShouldThrowProjectNotFoundException_WhenProjectNotFound() {
+        // Given
+        when(projectRepository.findSummaryByIdAndOwnerId(ownerId, projectId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> projectService.getProjectSummary(ownerId, projectIdStr))
+                .isInstanceOf(ProjectNotFoundException.class)
+                .hasMessage("Project not found with id: " + projectIdStr);
+    }
+
+    @Test
+    void getWorkspaceETag_ShouldChange_WhenAnyProjectOrTaskChanges() {
+        // Given
+        LocalDateTime lastUpdated = LocalDateTime.now();
+        when(projectRepository.findChangeStampByOwnerId(ownerId)).thenReturn(
+                new ChangeStamp(2, lastUpdated),
+                new ChangeStamp(2, lastUpdated),
+                new ChangeStamp(2, lastUpdated.plusSeconds(1)));
+        when(taskRepository.findChangeStampByOwnerId(ownerId)).thenReturn(
+                new ChangeStamp(5, lastUpdated),
+                new ChangeStamp(4, lastUpdated),
+                new ChangeStamp(4, lastUpdated));
+
+        // When
+        String initial = projectService.getWorkspaceETag(ownerId);
+        String afterTaskDeleted = projectService.getWorkspaceETag(ownerId);
+        String afterProjectRenamed = projectService.getWorkspaceETag(ownerId);
+
+        // Then
+        assertThat(initial).startsWith("\"").endsWith("\"");
+        assertThat(List.of(initial, afterTaskDeleted, afterProjectRenamed)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void getWorkspaceETag_ShouldBeStable_ForAnEmptyWorkspace() {
+        // Given
+        when(projectRepository.findChangeStampByOwnerId(ownerId)).thenReturn(new ChangeStamp(0, null));
+        when(taskRepository.findChangeStampByOwnerId(ownerId)).thenReturn(new ChangeStamp(0, null));
+
+        // When & Then
+        assertThat(projectService.getWorkspaceETag(ownerId)).isEqualTo(projectService.getWorkspaceETag(ownerId));
+    }
+
+
     @Test
     void deleteProject_ShouldDeleteProject_WhenProjectExists() {
         // Given
@@ -227,7 +360,8 @@ class ProjectServiceImplTest {
 
         // Then
         verify(projectRepository).findByIdAndOwnerId(ownerId, projectId);
-        verify(projectRepository).delete(project);
+        verify(taskRepository).deleteAllByProjectIdAndOwnerId(projectId, ownerId);
+        verify(projectRepository).deleteByIdAndOwnerId(ownerId, projectId);
     }
 
     @Test
@@ -241,7 +375,8 @@ class ProjectServiceImplTest {
                 .hasMessage("Project not found with id: " + projectIdStr);
         
         verify(projectRepository).findByIdAndOwnerId(ownerId, projectId);
-        verify(projectRepository, never()).delete(any());
+        verify(projectRepository, never()).deleteByIdAndOwnerId(any(), any());
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -257,7 +392,7 @@ class ProjectServiceImplTest {
     }
 
     @Test
-    void deleteProject_ShouldDeleteWithCascade_WhenProjectHasTasks() {
+    void deleteProject_ShouldDeleteTasksInOneStatement_WhenProjectHasTasks() {
         // Given
         Task task1 = Task.builder()
                 .id(UUID.randomUUID())
@@ -279,9 +414,34 @@ class ProjectServiceImplTest {
         // When
         projectService.deleteProject(ownerId, projectIdStr);
 
+        // Then - the task entities are never loaded or cascaded
+        verify(taskRepository).deleteAllByProjectIdAndOwnerId(projectId, ownerId);
+        verify(projectRepository).deleteByIdAndOwnerId(ownerId, projectId);
+        verify(projectRepository, never()).delete(any(Project.class));
+    }
+
+    @Test
+    void deleteProjectInBackground_ShouldValidateOwnershipAndHandOffToJob() {
+        // Given
+        when(projectRepository.findByIdAndOwnerId(ownerId, projectId)).thenReturn(Optional.of(project));
+
+        // When
+        projectService.deleteProjectInBackground(ownerId, projectIdStr);
+
         // Then
-        verify(projectRepository).findByIdAndOwnerId(ownerId, projectId);
-        verify(projectRepository).delete(project);
+        verify(projectDeletionJob).deleteInChunks(ownerId, projectId);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteProjectInBackground_ShouldThrowProjectNotFoundException_WhenProjectNotFound() {
+        // Given
+        when(projectRepository.findByIdAndOwnerId(ownerId, projectId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> projectService.deleteProjectInBackground(ownerId, projectIdStr))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verifyNoInteractions(projectDeletionJob);
     }
 
 
@@ -329,6 +489,68 @@ class ProjectServiceImplTest {
         assertThat(existingProject.getDescription()).isEqualTo("Updated Description");
     }
 
+    @Test
+    void updateProject_ShouldThrowPreconditionFailed_WhenIfMatchVersionIsStale() {
+        // Given
+        project.setVersion(3L);
+        Project updateData = Project.builder().name("Updated Name").build();
+        when(projectRepository.findByIdAndOwnerId(ownerId, projectId)).thenReturn(Optional.of(project));
+
+        // When & Then
+        assertThatThrownBy(() -> projectService.updateProject(ownerId, projectIdStr, updateData, 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("\"3\"");
+
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void patchProject_ShouldReturnNextVersion_WhenVersionMatches() {
+        // Given
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("description", null);
+        when(versionedUpdateRepository.updateIfVersionMatches(Project.class, projectId, ownerId, 4L, patch))
+                .thenReturn(1);
+
+        // When
+        long version = projectService.patchProject(ownerId, projectIdStr, 4L, patch);
+
+        // Then
+        assertThat(version).isEqualTo(5L);
+        verify(projectRepository, never()).existsByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void patchProject_ShouldTellStaleVersionFromMissingProject_WhenNothingUpdated() {
+        // Given
+        Map<String, Object> patch = Map.of("name", "Renamed");
+        when(versionedUpdateRepository.updateIfVersionMatches(Project.class, projectId, ownerId, 4L, patch))
+                .thenReturn(0);
+        when(projectRepository.existsByIdAndOwnerId(projectId, ownerId)).thenReturn(true, false);
+
+        // When & Then
+        assertThatThrownBy(() -> projectService.patchProject(ownerId, projectIdStr, 4L, patch))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> projectService.patchProject(ownerId, projectIdStr, 4L, patch))
+                .isInstanceOf(ProjectNotFoundException.class);
+    }
+
+    @Test
+    void patchProject_ShouldRejectUnknownOrInvalidFields() {
+        // When & Then
+        assertThatThrownBy(() -> projectService.patchProject(ownerId, projectIdStr, 1L, Map.of("ownerId", "someone")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field cannot be patched: ownerId");
+        Map<String, Object> clearName = new HashMap<>();
+        clearName.put("name", null);
+        assertThatThrownBy(() -> projectService.patchProject(ownerId, projectIdStr, 1L, clearName))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> projectService.patchProject(ownerId, projectIdStr, 1L, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(versionedUpdateRepository);
+    }
+
     @Test
     void updateProject_ShouldThrowProjectNotFoundException_WhenProjectNotFound() {
         // Given
@@ -385,6 +607,11 @@ class ProjectServiceImplTest {
         assertThat(existingProject.getOwnerId()).isEqualTo(ownerId); // Should remain unchanged
     }
 
+    private ProjectSummary summaryOf(Project source, long taskCount) {
+        return new ProjectSummary(source.getId(), source.getName(), source.getDescription(),
+                source.getCreatedAt(), source.getUpdatedAt(), 0, taskCount);
+    }
+
     // Helper method to create another project for testing
     private Project createAnotherProject() {
         return Project.builder()
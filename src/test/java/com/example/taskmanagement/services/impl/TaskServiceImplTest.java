@@ -1,28 +1,53 @@
 package com.example.taskmanagement.services.impl;
 
+import com.example.taskmanagement.exceptions.PreconditionFailedException;
 import com.example.taskmanagement.exceptions.TaskNotFoundException;
+import com.example.taskmanagement.model.dto.requests.TaskSearchRequestDto;
 import com.example.taskmanagement.model.dto.response.PagedResponse;
 import com.example.taskmanagement.model.entity.Project;
 import com.example.taskmanagement.model.entity.Task;
 import com.example.taskmanagement.model.enums.TaskStatus;
+import com.example.taskmanagement.model.projection.TaskRevision;
 import com.example.taskmanagement.repositories.TaskRepository;
+import com.example.taskmanagement.repositories.VersionedUpdateRepository;
 import com.example.taskmanagement.services.ProjectService;
+import com.example.taskmanagement.services.TaskService;
+import com.example.taskmanagement.utils.CursorUtils;
+import com.example.taskmanagement.mappers.TaskMapper;
+import com.example.taskmanagement.model.dto.requests.TaskBulkUpdateRequestDto;
+import com.example.taskmanagement.model.dto.requests.TaskRequestDto;
+import com.example.taskmanagement.model.enums.ErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +62,21 @@ class TaskServiceImplTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private VersionedUpdateRepository versionedUpdateRepository;
+
+    @Mock
+    private JpaSpecificationExecutor.SpecificationFluentQuery<Task> fluentQuery;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -72,34 +112,6 @@ class TaskServiceImplTest {
     }
 
 
-    @Test
-    void listTasks_ShouldReturnTaskList_WhenOwnerIdProvided() {
-        // Given
-        List<Task> expectedTasks = Arrays.asList(task, createAnotherTask());
-        when(taskRepository.findAllByOwnerId(ownerId)).thenReturn(expectedTasks);
-
-        // When
-        List<Task> result = taskService.listTasks(ownerId);
-
-        // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyElementsOf(expectedTasks);
-        verify(taskRepository).findAllByOwnerId(ownerId);
-    }
-
-    @Test
-    void listTasks_ShouldReturnEmptyList_WhenNoTasksFound() {
-        // Given
-        when(taskRepository.findAllByOwnerId(ownerId)).thenReturn(List.of());
-
-        // When
-        List<Task> result = taskService.listTasks(ownerId);
-
-        // Then
-        assertThat(result).isEmpty();
-        verify(taskRepository).findAllByOwnerId(ownerId);
-    }
-
 
     @Test
     void listTasksPaginated_ShouldReturnPagedResponse_WhenValidInput() {
@@ -120,22 +132,37 @@ class TaskServiceImplTest {
     }
 
 
+
     @Test
-    void listTasksByProject_ShouldReturnProjectTasks_WhenValidProject() {
+    void streamTasks_ShouldHandEachTaskToActionAndDetachIt() {
         // Given
-        List<Task> expectedTasks = Arrays.asList(task);
-        when(taskRepository.findByProjectIdAndOwnerId(project.getId(), project.getOwnerId()))
-                .thenReturn(expectedTasks);
+        Task otherTask = Task.builder().id(UUID.randomUUID()).name("Other").project(project).build();
+        when(taskRepository.streamAllByOwnerId(ownerId)).thenReturn(Stream.of(task, otherTask));
+        List<Task> consumed = new ArrayList<>();
 
         // When
-        List<Task> result = taskService.listTasksByProject(project);
+        taskService.streamTasks(ownerId, consumed::add);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(task);
-        verify(taskRepository).findByProjectIdAndOwnerId(project.getId(), project.getOwnerId());
+        assertThat(consumed).containsExactly(task, otherTask);
+        verify(entityManager).detach(task);
+        verify(entityManager).detach(otherTask);
     }
 
+    @Test
+    void streamTasksByProject_ShouldCloseStream_WhenActionFails() {
+        // Given
+        List<Boolean> closed = new ArrayList<>();
+        when(taskRepository.streamByProjectIdAndOwnerId(project.getId(), ownerId))
+                .thenReturn(Stream.of(task).onClose(() -> closed.add(true)));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.streamTasksByProject(project, t -> {
+            throw new IllegalStateException("client went away");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(closed).containsExactly(true);
+        verify(entityManager, never()).detach(any());
+    }
 
     @Test
     void listTasksByProjectPaginated_ShouldReturnPagedTasks_WhenValidInput() {
@@ -144,7 +171,7 @@ class TaskServiceImplTest {
         List<Task> tasks = Arrays.asList(task);
         Page<Task> taskPage = new PageImpl<>(tasks, pageable, 1);
         
-        when(projectService.getProjectById(ownerId, projectId)).thenReturn(project);
+        when(projectService.getProjectReference(ownerId, projectId)).thenReturn(project);
         when(taskRepository.findByProjectIdAndOwnerIdPaginated(project.getId(), ownerId, pageable))
                 .thenReturn(taskPage);
 
@@ -154,7 +181,7 @@ class TaskServiceImplTest {
         // Then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getPage().getTotalElements()).isEqualTo(1);
-        verify(projectService).getProjectById(ownerId, projectId);
+        verify(projectService).getProjectReference(ownerId, projectId);
         verify(taskRepository).findByProjectIdAndOwnerIdPaginated(project.getId(), ownerId, pageable);
     }
 
@@ -162,7 +189,7 @@ class TaskServiceImplTest {
     void listTasksByProjectPaginated_ShouldThrowException_WhenProjectNotFound() {
         // Given
         Pageable pageable = PageRequest.of(0, 5);
-        when(projectService.getProjectById(ownerId, projectId))
+        when(projectService.getProjectReference(ownerId, projectId))
                 .thenThrow(new RuntimeException("Project not found"));
 
         // When & Then
@@ -170,10 +197,219 @@ class TaskServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Project not found");
         
-        verify(projectService).getProjectById(ownerId, projectId);
+        verify(projectService).getProjectReference(ownerId, projectId);
+        verifyNoInteractions(taskRepository);
+    }
+
+
+    @Test
+    void listTasksSlice_ShouldReturnPageWithoutTotals_WhenCountDisabled() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(taskRepository.findAllByOwnerIdSliced(ownerId, pageable))
+                .thenReturn(new SliceImpl<>(List.of(task), pageable, true));
+
+        // When
+        PagedResponse<Task> result = taskService.listTasksSlice(ownerId, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(task);
+        assertThat(result.getPage().isHasNext()).isTrue();
+        assertThat(result.getPage().getTotalElements()).isNull();
+        assertThat(result.getPage().getTotalPages()).isNull();
+        verify(taskRepository, never()).findAllByOwnerIdPaginated(any(), any());
+    }
+
+    @Test
+    void listTasksByProjectSlice_ShouldValidateProjectAndReturnSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 5);
+        when(projectService.getProjectReference(ownerId, projectId)).thenReturn(project);
+        when(taskRepository.findByProjectIdAndOwnerIdSliced(project.getId(), ownerId, pageable))
+                .thenReturn(new SliceImpl<>(List.of(task), pageable, false));
+
+        // When
+        PagedResponse<Task> result = taskService.listTasksByProjectSlice(ownerId, projectId, pageable);
+
+        // Then
+        assertThat(result.getPage().getNumber()).isEqualTo(1);
+        assertThat(result.getPage().isHasPrevious()).isTrue();
+        assertThat(result.getPage().isLast()).isTrue();
+        verify(projectService).getProjectReference(ownerId, projectId);
+    }
+
+    @Test
+    void listTasksKeyset_ShouldReturnFirstPageWithCursor_WhenMoreRowsExist() {
+        // Given
+        Task another = createAnotherTask();
+        when(taskRepository.findAllByOwnerIdKeyset(ownerId, Limit.of(2)))
+                .thenReturn(Arrays.asList(task, another));
+
+        // When
+        PagedResponse<Task> result = taskService.listTasks(ownerId, "", 1);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(task);
+        assertThat(result.getPage().isFirst()).isTrue();
+        assertThat(result.getPage().isHasNext()).isTrue();
+        assertThat(result.getPage().getTotalElements()).isNull();
+        assertThat(result.getNextCursor()).isEqualTo(CursorUtils.encode(task.getCreatedAt(), task.getId()));
+    }
+
+    @Test
+    void listTasksKeyset_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        String after = CursorUtils.encode(task.getCreatedAt(), task.getId());
+        Task another = createAnotherTask();
+        when(taskRepository.findAllByOwnerIdAfter(ownerId, task.getCreatedAt(), task.getId(), Limit.of(11)))
+                .thenReturn(List.of(another));
+
+        // When
+        PagedResponse<Task> result = taskService.listTasks(ownerId, after, 10);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(another);
+        assertThat(result.getPage().isFirst()).isFalse();
+        assertThat(result.getPage().isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(taskRepository, never()).findAllByOwnerIdKeyset(any(), any());
+    }
+
+    @Test
+    void listTasksKeyset_ShouldThrowIllegalArgumentException_WhenCursorMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.listTasks(ownerId, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void listTasksByProjectKeyset_ShouldValidateProjectAndSeekPastCursor() {
+        // Given
+        String after = CursorUtils.encode(task.getCreatedAt(), task.getId());
+        when(projectService.getProjectReference(ownerId, projectId)).thenReturn(project);
+        when(taskRepository.findByProjectIdAndOwnerIdAfter(
+                project.getId(), ownerId, task.getCreatedAt(), task.getId(), Limit.of(6)))
+                .thenReturn(List.of());
+
+        // When
+        PagedResponse<Task> result = taskService.listTasksByProject(ownerId, projectId, after, 5);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getPage().isLast()).isTrue();
+        verify(projectService).getProjectReference(ownerId, projectId);
+    }
+
+
+    @Test
+    void searchTasks_ShouldReturnCountedPageSortedByNewest_WhenNoSortGiven() {
+        // Given
+        stubFluentQuery();
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setStatus(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+        when(fluentQuery.page(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1));
+
+        // When
+        PagedResponse<Task> result = taskService.searchTasks(ownerId, criteria, PageRequest.of(0, 10), true);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(task);
+        assertThat(result.getPage().getTotalElements()).isEqualTo(1L);
+        verify(fluentQuery).project("project");
+        verify(fluentQuery).page(argThat(pageable -> pageable.getSort()
+                .equals(Sort.by(Sort.Direction.DESC, "createdAt", "id"))));
+        verify(fluentQuery, never()).slice(any());
+    }
+
+    @Test
+    void searchTasks_ShouldReturnSliceWithRequestedSort_WhenCountDisabled() {
+        // Given
+        stubFluentQuery();
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setNamePrefix("Test");
+        criteria.setSort("updatedAt,desc");
+        Pageable pageable = PageRequest.of(0, 5);
+        when(fluentQuery.slice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(task), pageable, true));
+
+        // When
+        PagedResponse<Task> result = taskService.searchTasks(ownerId, criteria, pageable, false);
+
+        // Then
+        assertThat(result.getPage().isHasNext()).isTrue();
+        assertThat(result.getPage().getTotalElements()).isNull();
+        verify(fluentQuery).slice(argThat(p -> p.getSort()
+                .equals(Sort.by(Sort.Direction.DESC, "updatedAt", "id"))));
+        verify(fluentQuery, never()).page(any());
+    }
+
+    @Test
+    void searchTasks_ShouldThrowIllegalArgumentException_WhenSortPropertyNotAllowed() {
+        // Given
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setSort("description,asc");
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.searchTasks(ownerId, criteria, PageRequest.of(0, 10), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported sort");
         verifyNoInteractions(taskRepository);
     }
 
+    @Test
+    void searchTasks_ShouldThrowIllegalArgumentException_WhenProjectIdInvalid() {
+        // Given
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setProjectId("not-a-uuid");
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.searchTasks(ownerId, criteria, PageRequest.of(0, 10), true))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void searchTasks_ShouldLoadRankedTasksInRankOrder_WhenQueryGiven() {
+        // Given
+        Task otherTask = Task.builder().id(UUID.randomUUID()).name("Other").project(project).build();
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setQ("report");
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.searchIds(eq(ownerId), eq(criteria), argThat(p -> p.getSort().isUnsorted())))
+                .thenReturn(new PageImpl<>(List.of(otherTask.getId(), taskId), pageable, 2));
+        when(taskRepository.findAllWithProjectByIdIn(List.of(otherTask.getId(), taskId)))
+                .thenReturn(List.of(task, otherTask));
+
+        // When
+        PagedResponse<Task> result = taskService.searchTasks(ownerId, criteria, pageable, true);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(otherTask, task);
+        assertThat(result.getPage().getTotalElements()).isEqualTo(2L);
+        verify(taskRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void searchTasks_ShouldSkipTaskLookup_WhenFullTextSliceEmpty() {
+        // Given
+        TaskSearchRequestDto criteria = new TaskSearchRequestDto();
+        criteria.setQ("nothing");
+        criteria.setSort("name");
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.searchIdsSliced(eq(ownerId), eq(criteria),
+                argThat(p -> p.getSort().equals(Sort.by(Sort.Direction.ASC, "name", "id")))))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        PagedResponse<Task> result = taskService.searchTasks(ownerId, criteria, pageable, false);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verify(taskRepository, never()).findAllWithProjectByIdIn(any());
+    }
 
     @Test
     void createTask_ShouldReturnSavedTask_WhenValidInput() {
@@ -204,6 +440,7 @@ class TaskServiceImplTest {
         assertThat(result.getName()).isEqualTo("New Task");
         assertThat(result.getProject()).isEqualTo(project);
         assertThat(taskToCreate.getProject()).isEqualTo(project); // Verify project was set
+        assertThat(taskToCreate.getOwnerId()).isEqualTo(ownerId); // Verify owner was copied onto the task
         
         verify(projectService).getProjectById(ownerId, projectId);
         verify(taskRepository).save(taskToCreate);
@@ -226,6 +463,100 @@ class TaskServiceImplTest {
     }
 
 
+    @Test
+    void bulkUpdateTasks_ShouldRunSingleUpdateWithTargetProject_WhenSelectionAndTargetGiven() {
+        // Given
+        Project targetProject = Project.builder().id(UUID.randomUUID()).ownerId(ownerId).build();
+        TaskBulkUpdateRequestDto bulkUpdate = new TaskBulkUpdateRequestDto(
+                List.of(taskId.toString()), null, TaskStatus.IN_PROGRESS, TaskStatus.DONE, targetProject.getId().toString());
+        when(projectService.getProjectReference(ownerId, targetProject.getId().toString())).thenReturn(targetProject);
+        when(taskRepository.bulkUpdate(any(), eq(TaskStatus.DONE), eq(targetProject))).thenReturn(1);
+
+        // When
+        int updated = taskService.bulkUpdateTasks(ownerId, bulkUpdate);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        verify(taskRepository).bulkUpdate(any(), eq(TaskStatus.DONE), eq(targetProject));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void bulkUpdateTasks_ShouldThrowIllegalArgumentException_WhenNoSelectorOrNoTarget() {
+        // Given
+        TaskBulkUpdateRequestDto noSelector = new TaskBulkUpdateRequestDto(null, null, null, TaskStatus.DONE, null);
+        TaskBulkUpdateRequestDto noTarget = new TaskBulkUpdateRequestDto(null, projectId, null, null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.bulkUpdateTasks(ownerId, noSelector))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Select tasks");
+        assertThatThrownBy(() -> taskService.bulkUpdateTasks(ownerId, noTarget))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("targetStatus");
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTasks_ShouldSaveValidItemsAndReportFailuresPerItem() {
+        // Given
+        UUID unknownProjectId = UUID.randomUUID();
+        TaskRequestDto valid = new TaskRequestDto("Task 1", null, projectId, null);
+        TaskRequestDto invalid = new TaskRequestDto("", null, projectId, TaskStatus.TODO);
+        TaskRequestDto badProjectId = new TaskRequestDto("Task 3", null, "not-a-uuid", TaskStatus.TODO);
+        TaskRequestDto unknownProject = new TaskRequestDto("Task 4", null, unknownProjectId.toString(), TaskStatus.TODO);
+        TaskRequestDto sameProject = new TaskRequestDto("Task 5", null, projectId, TaskStatus.DONE);
+
+        ConstraintViolation<TaskRequestDto> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("name");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("Task name is required");
+        when(validator.validate(any(TaskRequestDto.class))).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+
+        when(projectService.getProjectsById(ownerId, Set.of(project.getId(), unknownProjectId)))
+                .thenReturn(Map.of(project.getId(), project));
+        Task first = Task.builder().name("Task 1").build();
+        Task fifth = Task.builder().name("Task 5").status(TaskStatus.DONE).build();
+        when(taskMapper.toEntity(valid)).thenReturn(first);
+        when(taskMapper.toEntity(sameProject)).thenReturn(fifth);
+        when(taskRepository.saveAll(List.of(first, fifth))).thenReturn(List.of(first, fifth));
+
+        // When
+        List<TaskService.BatchItemResult> results = taskService.createTasks(ownerId,
+                List.of(valid, invalid, badProjectId, unknownProject, sameProject));
+
+        // Then
+        assertThat(results).extracting(TaskService.BatchItemResult::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results.get(0).task()).isSameAs(first);
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        assertThat(results.get(1).message()).isEqualTo("name: Task name is required");
+        assertThat(results.get(2).errorCode()).isEqualTo(ErrorCode.INVALID_UUID_FORMAT);
+        assertThat(results.get(3).errorCode()).isEqualTo(ErrorCode.PROJECT_NOT_FOUND);
+        assertThat(results.get(4).task()).isSameAs(fifth);
+        assertThat(first.getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(first.getOwnerId()).isEqualTo(ownerId);
+        assertThat(fifth.getProject()).isEqualTo(project);
+        verify(projectService, times(1)).getProjectsById(any(), any());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void createTasks_ShouldThrowIllegalArgumentException_WhenBatchEmptyOrTooLarge() {
+        // Given
+        List<TaskRequestDto> tooLarge = Collections.nCopies(TaskServiceImpl.MAX_BATCH_SIZE + 1,
+                new TaskRequestDto("Task", null, projectId, TaskStatus.TODO));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.createTasks(ownerId, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTasks(ownerId, tooLarge))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(projectService, taskRepository);
+    }
+
     @Test
     void updateTask_ShouldReturnUpdatedTask_WhenValidInput() {
         // Given
@@ -272,6 +603,76 @@ class TaskServiceImplTest {
         assertThat(existingTask.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
     }
 
+    @Test
+    void updateTask_ShouldThrowPreconditionFailed_WhenIfMatchVersionIsStale() {
+        // Given
+        task.setVersion(7L);
+        Task updateData = Task.builder().name("Updated Name").build();
+        when(taskRepository.findByIdAndOwnerId(taskId, ownerId)).thenReturn(Optional.of(task));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.updateTask(ownerId, taskId.toString(), updateData, 6L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("\"7\"");
+
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void patchTask_ShouldUpdateInOneStatementAndReturnNextVersion_WhenVersionMatches() {
+        // Given
+        Map<String, Object> patch = Map.of("status", "DONE", "name", "Renamed");
+        when(versionedUpdateRepository.updateIfVersionMatches(eq(Task.class), eq(taskId), eq(ownerId), eq(2L), anyMap()))
+                .thenReturn(1);
+
+        // When
+        long version = taskService.patchTask(ownerId, taskId.toString(), 2L, patch);
+
+        // Then
+        assertThat(version).isEqualTo(3L);
+        verify(versionedUpdateRepository).updateIfVersionMatches(Task.class, taskId, ownerId, 2L,
+                Map.of("status", TaskStatus.DONE, "name", "Renamed"));
+        verify(taskRepository, never()).findByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void patchTask_ShouldThrowPreconditionFailed_WhenVersionIsStale() {
+        // Given
+        Map<String, Object> patch = Map.of("status", "DONE");
+        when(versionedUpdateRepository.updateIfVersionMatches(eq(Task.class), eq(taskId), eq(ownerId), eq(2L), anyMap()))
+                .thenReturn(0);
+        when(taskRepository.existsByIdAndOwnerId(taskId, ownerId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.patchTask(ownerId, taskId.toString(), 2L, patch))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void patchTask_ShouldThrowTaskNotFoundException_WhenTaskDoesNotExist() {
+        // Given
+        Map<String, Object> patch = Map.of("status", "DONE");
+        when(versionedUpdateRepository.updateIfVersionMatches(eq(Task.class), eq(taskId), eq(ownerId), eq(2L), anyMap()))
+                .thenReturn(0);
+        when(taskRepository.existsByIdAndOwnerId(taskId, ownerId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.patchTask(ownerId, taskId.toString(), 2L, patch))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    void patchTask_ShouldRejectInvalidMembers_BeforeTouchingTheDatabase() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.patchTask(ownerId, taskId.toString(), 1L, Map.of("project", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.patchTask(ownerId, taskId.toString(), 1L, Map.of("status", "LATER")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid status: LATER");
+
+        verifyNoInteractions(versionedUpdateRepository, taskRepository);
+    }
+
     @Test
     void updateTask_ShouldThrowTaskNotFoundException_WhenTaskNotFound() {
         // Given
@@ -307,29 +708,38 @@ class TaskServiceImplTest {
     void deleteTask_ShouldDeleteTask_WhenTaskExists() {
         // Given
         String taskIdStr = taskId.toString();
-        when(taskRepository.findByIdAndOwnerId(taskId, ownerId)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteByIdAndOwnerId(taskId, ownerId)).thenReturn(1);
 
         // When
         taskService.deleteTask(ownerId, taskIdStr);
 
         // Then
-        verify(taskRepository).findByIdAndOwnerId(taskId, ownerId);
-        verify(taskRepository).delete(task);
+        verify(taskRepository).deleteByIdAndOwnerId(taskId, ownerId);
+        verify(taskRepository, never()).findByIdAndOwnerId(any(), any());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void deleteTask_ShouldThrowTaskNotFoundException_WhenTaskNotFound() {
         // Given
         String taskIdStr = taskId.toString();
-        when(taskRepository.findByIdAndOwnerId(taskId, ownerId)).thenReturn(Optional.empty());
+        when(taskRepository.deleteByIdAndOwnerId(taskId, ownerId)).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> taskService.deleteTask(ownerId, taskIdStr))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with id: " + taskIdStr);
         
-        verify(taskRepository).findByIdAndOwnerId(taskId, ownerId);
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository).deleteByIdAndOwnerId(taskId, ownerId);
+    }
+
+    @Test
+    void deleteTask_ShouldThrowIllegalArgumentException_WhenInvalidTaskId() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.deleteTask(ownerId, "invalid-uuid"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(taskRepository);
     }
 
 
@@ -374,6 +784,34 @@ class TaskServiceImplTest {
         verifyNoInteractions(taskRepository);
     }
 
+    @Test
+    void getTaskRevision_ShouldReadVersionsWithoutLoadingTheTask() {
+        // Given
+        LocalDateTime taskUpdated = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime projectUpdated = LocalDateTime.now();
+        TaskRevision revision = new TaskRevision(3L, taskUpdated, 7L, projectUpdated);
+        when(taskRepository.findRevisionByIdAndOwnerId(taskId, ownerId)).thenReturn(Optional.of(revision));
+
+        // When
+        TaskRevision result = taskService.getTaskRevision(ownerId, taskId.toString());
+
+        // Then
+        assertThat(result).isEqualTo(revision);
+        assertThat(result.lastModified()).isEqualTo(projectUpdated);
+        verify(taskRepository, never()).findByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void getTaskRevision_ShouldThrowTaskNotFoundException_WhenTaskNotFound() {
+        // Given
+        when(taskRepository.findRevisionByIdAndOwnerId(taskId, ownerId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTaskRevision(ownerId, taskId.toString()))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage("Task not found with id: " + taskId);
+    }
+
     // Helper method to create another task for testing
     private Task createAnotherTask() {
         return Task.builder()
@@ -385,4 +823,13 @@ class TaskServiceImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
     }
-} 
\ No newline at end of file
+
+    // Runs the fluent query function passed by the service against the mocked query
+    @SuppressWarnings("unchecked")
+    private void stubFluentQuery() {
+        when(fluentQuery.project(anyString())).thenReturn(fluentQuery);
+        when(taskRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Function<JpaSpecificationExecutor.SpecificationFluentQuery<Task>, Object>>getArgument(1)
+                        .apply(fluentQuery));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagement.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonStreamUtilsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writeArray_ShouldWriteEveryElement() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        JsonStreamUtils.<Integer>writeArray(objectMapper, out, sink -> {
+            sink.accept(1);
+            sink.accept(2);
+        });
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[1,2]");
+    }
+
+    @Test
+    void writeArray_ShouldLeaveArrayOpen_WhenProducerFails() {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        assertThatThrownBy(() -> JsonStreamUtils.<Integer>writeArray(objectMapper, out, sink -> {
+            sink.accept(1);
+            sink.accept(2);
+            throw new IllegalStateException("database went away");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then - the truncated output is not a valid document
+        String written = out.toString(StandardCharsets.UTF_8);
+        assertThat(written).isEqualTo("[1,2");
+        assertThatThrownBy(() -> objectMapper.readTree(written)).isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void writeLines_ShouldWriteOneDocumentPerLine_WithoutSeparatorSpace() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        JsonStreamUtils.<Map<String, Integer>>writeLines(objectMapper, out, sink -> {
+            sink.accept(Map.of("a", 1));
+            sink.accept(Map.of("b", 2));
+        });
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}\n{\"b\":2}\n");
+    }
+}